@@ -1,117 +1,203 @@
-package de.timing.announcer;
-
-/**
- * Data model for an announcement.
- */
-public class Announcement {
-
-    private String name;
-    private String message;
-    private AnnouncementType type;
-    private String subtitle;
-    private int fadeIn;
-    private int stay;
-    private int fadeOut;
-    private int interval; // seconds between broadcasts (0 = manual only)
-    private boolean enabled;
-
-    public Announcement(String name, String message, AnnouncementType type) {
-        this.name = name;
-        this.message = message;
-        this.type = type;
-        this.subtitle = "";
-        this.fadeIn = 10;
-        this.stay = 70;
-        this.fadeOut = 20;
-        this.interval = 0;
-        this.enabled = true;
-    }
-
-    // Getters and Setters
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getMessage() {
-        return message;
-    }
-
-    public void setMessage(String message) {
-        this.message = message;
-    }
-
-    public AnnouncementType getType() {
-        return type;
-    }
-
-    public void setType(AnnouncementType type) {
-        this.type = type;
-    }
-
-    public String getSubtitle() {
-        return subtitle;
-    }
-
-    public void setSubtitle(String subtitle) {
-        this.subtitle = subtitle;
-    }
-
-    public int getFadeIn() {
-        return fadeIn;
-    }
-
-    public void setFadeIn(int fadeIn) {
-        this.fadeIn = fadeIn;
-    }
-
-    public int getStay() {
-        return stay;
-    }
-
-    public void setStay(int stay) {
-        this.stay = stay;
-    }
-
-    public int getFadeOut() {
-        return fadeOut;
-    }
-
-    public void setFadeOut(int fadeOut) {
-        this.fadeOut = fadeOut;
-    }
-
-    public int getInterval() {
-        return interval;
-    }
-
-    public void setInterval(int interval) {
-        this.interval = interval;
-    }
-
-    public boolean isEnabled() {
-        return enabled;
-    }
-
-    public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
-    }
-
-    /**
-     * Create a deep copy of this announcement.
-     */
-    public Announcement copy() {
-        Announcement copy = new Announcement(name, message, type);
-        copy.setSubtitle(subtitle);
-        copy.setFadeIn(fadeIn);
-        copy.setStay(stay);
-        copy.setFadeOut(fadeOut);
-        copy.setInterval(interval);
-        copy.setEnabled(enabled);
-        return copy;
-    }
-}
+package de.timing.announcer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Data model for an announcement.
+ */
+public class Announcement {
+
+    private String name;
+    private String message;
+    private AnnouncementType type;
+    private String subtitle;
+    private int fadeIn;
+    private int stay;
+    private int fadeOut;
+    private int interval; // seconds between broadcasts (0 = manual only)
+    private int jitter; // max random delay in seconds added to each broadcast
+    private int priority; // higher replaces a lower-priority title/action bar still on screen
+    private boolean enabled;
+    private TargetType targetType;
+    private String target; // world name or permission node, depending on targetType
+    private final Map<String, String> localizedMessages; // locale (e.g. "de" or "de_de") -> message
+    private final Map<String, String> localizedSubtitles;
+
+    public Announcement(String name, String message, AnnouncementType type) {
+        this.name = name;
+        this.message = message;
+        this.type = type;
+        this.subtitle = "";
+        this.fadeIn = 10;
+        this.stay = 70;
+        this.fadeOut = 20;
+        this.interval = 0;
+        this.jitter = 0;
+        this.priority = 0;
+        this.enabled = true;
+        this.targetType = TargetType.ALL;
+        this.target = "";
+        this.localizedMessages = new HashMap<>();
+        this.localizedSubtitles = new HashMap<>();
+    }
+
+    // Getters and Setters
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public AnnouncementType getType() {
+        return type;
+    }
+
+    public void setType(AnnouncementType type) {
+        this.type = type;
+    }
+
+    public String getSubtitle() {
+        return subtitle;
+    }
+
+    public void setSubtitle(String subtitle) {
+        this.subtitle = subtitle;
+    }
+
+    public int getFadeIn() {
+        return fadeIn;
+    }
+
+    public void setFadeIn(int fadeIn) {
+        this.fadeIn = fadeIn;
+    }
+
+    public int getStay() {
+        return stay;
+    }
+
+    public void setStay(int stay) {
+        this.stay = stay;
+    }
+
+    public int getFadeOut() {
+        return fadeOut;
+    }
+
+    public void setFadeOut(int fadeOut) {
+        this.fadeOut = fadeOut;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        this.interval = interval;
+    }
+
+    public int getJitter() {
+        return jitter;
+    }
+
+    public void setJitter(int jitter) {
+        this.jitter = jitter;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(TargetType targetType) {
+        this.targetType = targetType;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    /**
+     * Per-locale message variants. Players whose locale has no variant get the default message.
+     */
+    public Map<String, String> getLocalizedMessages() {
+        return localizedMessages;
+    }
+
+    /**
+     * Per-locale subtitle variants. Falls back to the default subtitle.
+     */
+    public Map<String, String> getLocalizedSubtitles() {
+        return localizedSubtitles;
+    }
+
+    /**
+     * Create a deep copy of this announcement.
+     */
+    public Announcement copy() {
+        Announcement copy = new Announcement(name, message, type);
+        copy.setSubtitle(subtitle);
+        copy.setFadeIn(fadeIn);
+        copy.setStay(stay);
+        copy.setFadeOut(fadeOut);
+        copy.setInterval(interval);
+        copy.setJitter(jitter);
+        copy.setPriority(priority);
+        copy.setEnabled(enabled);
+        copy.setTargetType(targetType);
+        copy.setTarget(target);
+        copy.getLocalizedMessages().putAll(localizedMessages);
+        copy.getLocalizedSubtitles().putAll(localizedSubtitles);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Announcement other)) return false;
+        return fadeIn == other.fadeIn && stay == other.stay && fadeOut == other.fadeOut
+                && interval == other.interval && jitter == other.jitter && priority == other.priority
+                && enabled == other.enabled && type == other.type && targetType == other.targetType
+                && Objects.equals(name, other.name) && Objects.equals(message, other.message)
+                && Objects.equals(subtitle, other.subtitle) && Objects.equals(target, other.target)
+                && localizedMessages.equals(other.localizedMessages)
+                && localizedSubtitles.equals(other.localizedSubtitles);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, message, type, subtitle, interval, enabled, targetType, target);
+    }
+}
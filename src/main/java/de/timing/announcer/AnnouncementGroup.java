@@ -0,0 +1,124 @@
+package de.timing.announcer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Data model for an announcement group.
+ * A group broadcasts one of its member announcements per interval, picked
+ * according to its rotation mode.
+ */
+public class AnnouncementGroup {
+
+    private String name;
+    private RotationMode mode;
+    private final List<String> members;
+    private final Map<String, Integer> weights;
+    private int interval; // seconds between broadcasts
+    private boolean enabled;
+
+    public AnnouncementGroup(String name, RotationMode mode) {
+        this.name = name;
+        this.mode = mode;
+        this.members = new ArrayList<>();
+        this.weights = new HashMap<>();
+        this.interval = 300;
+        this.enabled = true;
+    }
+
+    // Getters and Setters
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public RotationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(RotationMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Member announcement names, in rotation order.
+     */
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public boolean isMember(String announcement) {
+        return members.contains(announcement);
+    }
+
+    public void addMember(String announcement) {
+        if (!members.contains(announcement)) {
+            members.add(announcement);
+        }
+    }
+
+    public void removeMember(String announcement) {
+        members.remove(announcement);
+        weights.remove(announcement);
+    }
+
+    /**
+     * Weight of a member for WEIGHTED rotation (default 1).
+     */
+    public int getWeight(String announcement) {
+        return weights.getOrDefault(announcement, 1);
+    }
+
+    public void setWeight(String announcement, int weight) {
+        weights.put(announcement, Math.max(0, weight));
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public void setInterval(int interval) {
+        this.interval = interval;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Create a deep copy of this group.
+     */
+    public AnnouncementGroup copy() {
+        AnnouncementGroup copy = new AnnouncementGroup(name, mode);
+        copy.members.addAll(members);
+        copy.weights.putAll(weights);
+        copy.setInterval(interval);
+        copy.setEnabled(enabled);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AnnouncementGroup other)) return false;
+        return interval == other.interval && enabled == other.enabled && mode == other.mode
+                && Objects.equals(name, other.name) && members.equals(other.members)
+                && weights.equals(other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, mode, members, interval, enabled);
+    }
+}
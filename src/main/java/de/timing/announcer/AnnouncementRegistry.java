@@ -0,0 +1,129 @@
+package de.timing.announcer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Copy-on-write registry of announcements and groups.
+ * Readers get the current immutable snapshot with a single volatile read,
+ * without copying or locking. All writes go through {@link #update(Consumer)},
+ * which is serialized, copies the maps, applies the edit and publishes a new
+ * snapshot with the next version number.
+ * <p>
+ * Announcements and groups stored here must not be mutated; edit a copy and
+ * write it back.
+ */
+public class AnnouncementRegistry {
+
+    private final AtomicReference<Snapshot> current;
+
+    public AnnouncementRegistry() {
+        this.current = new AtomicReference<>(Snapshot.EMPTY);
+    }
+
+    /**
+     * Get the current snapshot. Safe to call from any thread.
+     */
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Apply an edit and publish the result as a new snapshot.
+     *
+     * @return The published snapshot
+     */
+    public synchronized Snapshot update(Consumer<Editor> edit) {
+        Snapshot base = current.get();
+        Editor editor = new Editor(base);
+        edit.accept(editor);
+        Snapshot next = new Snapshot(base.version() + 1,
+                Map.copyOf(editor.announcements), Map.copyOf(editor.compiled),
+                Map.copyOf(editor.groups), Map.copyOf(editor.cursors));
+        current.set(next);
+        return next;
+    }
+
+    /**
+     * An immutable, versioned view of all announcements and groups.
+     */
+    public record Snapshot(long version,
+                           Map<String, Announcement> announcements,
+                           Map<String, CompiledAnnouncement> compiled,
+                           Map<String, AnnouncementGroup> groups,
+                           Map<String, RotationCursor> cursors) {
+
+        static final Snapshot EMPTY = new Snapshot(0, Map.of(), Map.of(), Map.of(), Map.of());
+
+        /**
+         * Check if an announcement is a member of an enabled group.
+         */
+        public boolean isGrouped(String name) {
+            for (AnnouncementGroup group : groups.values()) {
+                if (group.isEnabled() && group.isMember(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Mutable working copy used inside {@link #update(Consumer)}.
+     */
+    public static final class Editor {
+
+        private final Map<String, Announcement> announcements;
+        private final Map<String, CompiledAnnouncement> compiled;
+        private final Map<String, AnnouncementGroup> groups;
+        private final Map<String, RotationCursor> cursors;
+
+        private Editor(Snapshot base) {
+            this.announcements = new HashMap<>(base.announcements());
+            this.compiled = new HashMap<>(base.compiled());
+            this.groups = new HashMap<>(base.groups());
+            this.cursors = new HashMap<>(base.cursors());
+        }
+
+        public void clear() {
+            announcements.clear();
+            compiled.clear();
+            groups.clear();
+            cursors.clear();
+        }
+
+        /**
+         * Store a copy of the announcement and compile it.
+         */
+        public void putAnnouncement(Announcement announcement) {
+            Announcement stored = announcement.copy();
+            announcements.put(stored.getName(), stored);
+            compiled.put(stored.getName(), CompiledAnnouncement.compile(stored));
+        }
+
+        public void removeAnnouncement(String name) {
+            announcements.remove(name);
+            compiled.remove(name);
+        }
+
+        /**
+         * Store a copy of the group and build its rotation cursor.
+         */
+        public void putGroup(AnnouncementGroup group) {
+            AnnouncementGroup stored = group.copy();
+            groups.put(stored.getName(), stored);
+            cursors.put(stored.getName(), new RotationCursor(stored));
+        }
+
+        public void removeGroup(String name) {
+            groups.remove(name);
+            cursors.remove(name);
+        }
+
+        public AnnouncementGroup getGroup(String name) {
+            return groups.get(name);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package de.timing.announcer;
+
+import de.timing.Timing;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Drives all recurring announcements from a single global-region task.
+ * Entries are kept in a sorted set keyed by their next fire tick, plus a
+ * name index, so scheduling, rescheduling and removal are O(log n) and each
+ * tick only looks at the head of the set.
+ * <p>
+ * Each entry has a phase offset so announcements with overlapping intervals
+ * do not fire on the same tick. {@link #rebalance()} spreads all entries
+ * evenly across the gcd of their intervals; entries added later get an
+ * offset from a golden-ratio sequence, which stays evenly spread without
+ * moving the others. An optional jitter delays each firing by a random
+ * amount without drifting the nominal schedule.
+ */
+public class AnnouncementScheduler {
+
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+
+    private final Timing plugin;
+    private final Consumer<String> action;
+    private final Function<Runnable, ScheduledTask> driverStarter;
+    private final TreeSet<Entry> queue;
+    private final Map<String, Entry> entries;
+    private long currentTick;
+    private long sequence;
+    private long phaseCounter;
+    private long intervalGcd;
+    private ScheduledTask driverTask;
+
+    /**
+     * @param action Called with the announcement name each time it is due, on the global region thread
+     */
+    public AnnouncementScheduler(Timing plugin, Consumer<String> action) {
+        this(plugin, action, driver -> plugin.getServer().getGlobalRegionScheduler()
+                .runAtFixedRate(plugin, task -> driver.run(), 1, 1));
+    }
+
+    /**
+     * @param driverStarter Starts a task that runs the given driver once per tick
+     */
+    AnnouncementScheduler(Timing plugin, Consumer<String> action, Function<Runnable, ScheduledTask> driverStarter) {
+        this.plugin = plugin;
+        this.action = action;
+        this.driverStarter = driverStarter;
+        this.queue = new TreeSet<>(Comparator.comparingLong(Entry::nextTick).thenComparingLong(Entry::sequence));
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Schedule (or reschedule) an announcement. The first broadcast happens
+     * one interval plus its phase offset from now. A rescheduled entry keeps
+     * its phase.
+     *
+     * @param jitterTicks Maximum random delay added to each firing (0 = none)
+     */
+    public synchronized void schedule(String name, long intervalTicks, long jitterTicks) {
+        Entry previous = entries.get(name);
+        unschedule(name);
+
+        long interval = Math.max(1, intervalTicks);
+        long phase = previous != null ? previous.phaseTicks() % interval : nextPhase(interval);
+        insert(name, interval, Math.max(0, jitterTicks), phase, currentTick + interval + phase);
+
+        if (driverTask == null) {
+            driverTask = driverStarter.apply(this::tick);
+        }
+    }
+
+    /**
+     * Remove an announcement from the schedule.
+     *
+     * @return true if it was scheduled
+     */
+    public synchronized boolean unschedule(String name) {
+        Entry entry = entries.remove(name);
+        if (entry == null) {
+            return false;
+        }
+        queue.remove(entry);
+        cancelIfIdle();
+        return true;
+    }
+
+    /**
+     * Spread all scheduled entries evenly: with G the gcd of all intervals
+     * and N the entry count, the k-th entry (by name) gets offset k*G/N.
+     * Every entry restarts one interval plus its offset from now.
+     */
+    public synchronized void rebalance() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparing(Entry::name));
+
+        long gcd = 0;
+        for (Entry entry : sorted) {
+            gcd = gcd(gcd, entry.intervalTicks());
+        }
+
+        queue.clear();
+        entries.clear();
+        int count = sorted.size();
+        for (int k = 0; k < count; k++) {
+            Entry entry = sorted.get(k);
+            long phase = (k * gcd) / count;
+            insert(entry.name(), entry.intervalTicks(), entry.jitterTicks(), phase,
+                    currentTick + entry.intervalTicks() + phase);
+        }
+        phaseCounter = 0;
+        intervalGcd = gcd;
+    }
+
+    /**
+     * Remove everything and stop the driver task.
+     */
+    public synchronized void clear() {
+        queue.clear();
+        entries.clear();
+        phaseCounter = 0;
+        intervalGcd = 0;
+        cancelIfIdle();
+    }
+
+    public synchronized boolean isScheduled(String name) {
+        return entries.containsKey(name);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Driver ticks since the scheduler was created. Entry fire ticks are on this clock.
+     */
+    public synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the scheduled entries ordered by their next firing.
+     */
+    public synchronized List<Entry> getEntries() {
+        return new ArrayList<>(queue);
+    }
+
+    /**
+     * Project the next nominal firings (ignoring jitter).
+     *
+     * @param count Number of firings to return
+     * @return Firings ordered by time, relative to now
+     */
+    public synchronized List<Firing> getTimeline(int count) {
+        PriorityQueue<long[]> projection = new PriorityQueue<>(Comparator.comparingLong((long[] slot) -> slot[0]));
+        List<Entry> snapshot = new ArrayList<>(queue);
+        for (int i = 0; i < snapshot.size(); i++) {
+            projection.add(new long[]{snapshot.get(i).nominalTick(), i});
+        }
+
+        List<Firing> firings = new ArrayList<>();
+        while (firings.size() < count && !projection.isEmpty()) {
+            long[] slot = projection.poll();
+            Entry entry = snapshot.get((int) slot[1]);
+            firings.add(new Firing(entry.name(), Math.max(0, slot[0] - currentTick)));
+            slot[0] += entry.intervalTicks();
+            projection.add(slot);
+        }
+        return firings;
+    }
+
+    private void insert(String name, long interval, long jitter, long phase, long nominalTick) {
+        Entry entry = new Entry(name, interval, jitter, phase, nominalTick, nominalTick + randomJitter(jitter),
+                sequence++);
+        queue.add(entry);
+        entries.put(name, entry);
+    }
+
+    /**
+     * Phase for an entry added after the last rebalance.
+     */
+    private long nextPhase(long interval) {
+        intervalGcd = gcd(intervalGcd, interval);
+        phaseCounter++;
+        double fraction = (phaseCounter * GOLDEN_RATIO_FRACTION) % 1.0;
+        return (long) (fraction * intervalGcd);
+    }
+
+    private static long randomJitter(long jitterTicks) {
+        return jitterTicks > 0 ? ThreadLocalRandom.current().nextLong(jitterTicks + 1) : 0;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private void cancelIfIdle() {
+        if (queue.isEmpty() && driverTask != null) {
+            driverTask.cancel();
+            driverTask = null;
+        }
+    }
+
+    /**
+     * One driver tick: pop every due entry, requeue it one interval after its
+     * nominal fire tick, then run the actions outside the lock.
+     */
+    private void tick() {
+        List<String> due = new ArrayList<>();
+
+        synchronized (this) {
+            currentTick++;
+            Entry head;
+            while (!queue.isEmpty() && (head = queue.first()).nextTick() <= currentTick) {
+                queue.pollFirst();
+                entries.remove(head.name());
+                insert(head.name(), head.intervalTicks(), head.jitterTicks(), head.phaseTicks(),
+                        head.nominalTick() + head.intervalTicks());
+                due.add(head.name());
+            }
+        }
+
+        for (String name : due) {
+            try {
+                action.accept(name);
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.SEVERE, "Error in announcement " + name, e);
+            }
+        }
+    }
+
+    /**
+     * A scheduled announcement.
+     *
+     * @param phaseTicks  Offset that spreads this entry against the others
+     * @param nominalTick Fire tick without jitter
+     * @param nextTick    Actual fire tick, including jitter
+     */
+    public record Entry(String name, long intervalTicks, long jitterTicks, long phaseTicks, long nominalTick,
+                        long nextTick, long sequence) {
+    }
+
+    /**
+     * A projected firing.
+     *
+     * @param ticksUntil Ticks from now until the firing
+     */
+    public record Firing(String name, long ticksUntil) {
+    }
+}
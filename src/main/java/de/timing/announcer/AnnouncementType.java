@@ -1,10 +1,10 @@
-package de.timing.announcer;
-
-/**
- * Types of announcement display.
- */
-public enum AnnouncementType {
-    ACTION_BAR,
-    TITLE,
-    SUBTITLE
-}
+package de.timing.announcer;
+
+/**
+ * Types of announcement display.
+ */
+public enum AnnouncementType {
+    ACTION_BAR,
+    TITLE,
+    SUBTITLE
+}
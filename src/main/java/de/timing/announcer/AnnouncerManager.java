@@ -1,193 +1,425 @@
-package de.timing.announcer;
-
-import de.timing.Timing;
-import de.timing.util.MessageUtil;
-import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.title.Title;
-import org.bukkit.entity.Player;
-
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * Manages announcements and their scheduled broadcasts.
- */
-public class AnnouncerManager {
-
-    private final Timing plugin;
-    private final Map<String, Announcement> announcements;
-    private final Map<String, ScheduledTask> scheduledTasks;
-
-    public AnnouncerManager(Timing plugin) {
-        this.plugin = plugin;
-        this.announcements = new HashMap<>();
-        this.scheduledTasks = new HashMap<>();
-        loadAnnouncements();
-    }
-
-    /**
-     * Load all announcements from config.
-     */
-    public void loadAnnouncements() {
-        stopAll();
-        announcements.clear();
-        announcements.putAll(plugin.getConfigManager().loadAnnouncements());
-        
-        // Start scheduled announcements
-        for (Announcement announcement : announcements.values()) {
-            if (announcement.isEnabled() && announcement.getInterval() > 0) {
-                scheduleAnnouncement(announcement);
-            }
-        }
-        
-        plugin.getLogger().info("Loaded " + announcements.size() + " announcements");
-    }
-
-    /**
-     * Schedule an announcement for recurring broadcast.
-     */
-    private void scheduleAnnouncement(Announcement announcement) {
-        if (scheduledTasks.containsKey(announcement.getName())) {
-            scheduledTasks.get(announcement.getName()).cancel();
-        }
-
-        long intervalTicks = announcement.getInterval() * 20L;
-        
-        ScheduledTask task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
-            plugin,
-            t -> broadcast(announcement),
-            intervalTicks,
-            intervalTicks
-        );
-        
-        scheduledTasks.put(announcement.getName(), task);
-    }
-
-    /**
-     * Stop all scheduled announcements.
-     */
-    public void stopAll() {
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.cancel();
-        }
-        scheduledTasks.clear();
-    }
-
-    /**
-     * Broadcast an announcement to all players.
-     */
-    public void broadcast(Announcement announcement) {
-        if (announcement == null || !announcement.isEnabled()) {
-            return;
-        }
-
-        Component message = MessageUtil.parse(announcement.getMessage());
-
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            sendToPlayer(player, announcement, message);
-        }
-    }
-
-    /**
-     * Broadcast an announcement by name.
-     */
-    public boolean broadcast(String name) {
-        Announcement announcement = announcements.get(name);
-        if (announcement == null) {
-            return false;
-        }
-        broadcast(announcement);
-        return true;
-    }
-
-    /**
-     * Send announcement to a specific player.
-     */
-    public void sendToPlayer(Player player, Announcement announcement, Component message) {
-        switch (announcement.getType()) {
-            case ACTION_BAR:
-                player.sendActionBar(message);
-                break;
-            case TITLE:
-                Component subtitle = MessageUtil.parse(announcement.getSubtitle());
-                Title.Times times = Title.Times.times(
-                    Duration.ofMillis(announcement.getFadeIn() * 50L),
-                    Duration.ofMillis(announcement.getStay() * 50L),
-                    Duration.ofMillis(announcement.getFadeOut() * 50L)
-                );
-                player.showTitle(Title.title(message, subtitle, times));
-                break;
-            case SUBTITLE:
-                Component emptyTitle = Component.empty();
-                Title.Times subTimes = Title.Times.times(
-                    Duration.ofMillis(announcement.getFadeIn() * 50L),
-                    Duration.ofMillis(announcement.getStay() * 50L),
-                    Duration.ofMillis(announcement.getFadeOut() * 50L)
-                );
-                player.showTitle(Title.title(emptyTitle, message, subTimes));
-                break;
-        }
-    }
-
-    /**
-     * Preview an announcement to a specific player.
-     */
-    public void preview(Player player, Announcement announcement) {
-        Component message = MessageUtil.parse(announcement.getMessage());
-        sendToPlayer(player, announcement, message);
-    }
-
-    /**
-     * Save an announcement.
-     */
-    public void saveAnnouncement(Announcement announcement) {
-        announcements.put(announcement.getName(), announcement);
-        plugin.getConfigManager().saveAnnouncement(announcement);
-        
-        // Reschedule if needed
-        if (scheduledTasks.containsKey(announcement.getName())) {
-            scheduledTasks.get(announcement.getName()).cancel();
-            scheduledTasks.remove(announcement.getName());
-        }
-        
-        if (announcement.isEnabled() && announcement.getInterval() > 0) {
-            scheduleAnnouncement(announcement);
-        }
-    }
-
-    /**
-     * Delete an announcement.
-     */
-    public void deleteAnnouncement(String name) {
-        announcements.remove(name);
-        plugin.getConfigManager().deleteAnnouncement(name);
-        
-        if (scheduledTasks.containsKey(name)) {
-            scheduledTasks.get(name).cancel();
-            scheduledTasks.remove(name);
-        }
-    }
-
-    /**
-     * Get an announcement by name.
-     */
-    public Announcement getAnnouncement(String name) {
-        return announcements.get(name);
-    }
-
-    /**
-     * Get all announcements.
-     */
-    public Map<String, Announcement> getAnnouncements() {
-        return new HashMap<>(announcements);
-    }
-
-    /**
-     * Create a new announcement with default values.
-     */
-    public Announcement createNew(String name) {
-        return new Announcement(name, "<yellow>New announcement</yellow>", AnnouncementType.ACTION_BAR);
-    }
-}
+package de.timing.announcer;
+
+import de.timing.Timing;
+import de.timing.broadcast.AudienceIndex;
+import de.timing.broadcast.BroadcastDispatcher;
+import de.timing.broadcast.Deliverable;
+import de.timing.broadcast.DisplayChannel;
+import de.timing.util.MessageTemplate;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Manages announcements and their scheduled broadcasts.
+ * State lives in an {@link AnnouncementRegistry}; every change is written
+ * through the registry's single update path and readers (broadcasts, GUIs,
+ * commands) work on its immutable snapshots.
+ */
+public class AnnouncerManager {
+
+    // Scheduler key prefix for groups; ':' is not allowed in announcement names
+    private static final String GROUP_KEY_PREFIX = "group:";
+
+    private final Timing plugin;
+    private final AnnouncementRegistry registry;
+    private final AnnouncementScheduler scheduler;
+
+    public AnnouncerManager(Timing plugin) {
+        this.plugin = plugin;
+        this.registry = new AnnouncementRegistry();
+        this.scheduler = new AnnouncementScheduler(plugin, this::onScheduled);
+        loadAnnouncements();
+    }
+
+    /**
+     * Load all announcements and groups from config.
+     */
+    public void loadAnnouncements() {
+        stopAll();
+        Map<String, Announcement> loaded = plugin.getConfigManager().loadAnnouncements();
+        Map<String, AnnouncementGroup> loadedGroups = plugin.getConfigManager().loadAnnouncementGroups();
+        AnnouncementRegistry.Snapshot snapshot = registry.update(editor -> {
+            editor.clear();
+            loaded.values().forEach(editor::putAnnouncement);
+            loadedGroups.values().forEach(editor::putGroup);
+        });
+
+        updateTrackedPermissions();
+        
+        // Start scheduled announcements and groups
+        for (String name : snapshot.announcements().keySet()) {
+            updateSchedule(name);
+        }
+        for (AnnouncementGroup group : snapshot.groups().values()) {
+            updateGroupSchedule(group);
+        }
+        scheduler.rebalance();
+        
+        plugin.getLogger().info("Loaded " + snapshot.announcements().size() + " announcements and "
+                + snapshot.groups().size() + " groups");
+    }
+
+    /**
+     * Re-read announcements and groups from the config and apply only what changed.
+     */
+    public void reloadAnnouncements() {
+        int changes = applyChanges(plugin.getConfigManager().loadAnnouncements(),
+                plugin.getConfigManager().loadAnnouncementGroups());
+        plugin.getLogger().info("Reloaded announcements (" + changes + " announcements/groups changed)");
+    }
+
+    /**
+     * Replace the announcements and groups, touching only what changed.
+     * Changed announcements are recompiled and rescheduled; unchanged ones
+     * keep their compiled form and their place in the schedule. Runs on the
+     * calling thread, so large catalogs can be applied off the global region thread.
+     *
+     * @return Number of announcements and groups that were added, changed or removed
+     */
+    public int applyChanges(Map<String, Announcement> announcements, Map<String, AnnouncementGroup> groups) {
+        AnnouncementRegistry.Snapshot previous = registry.snapshot();
+        Set<String> changed = diff(previous.announcements(), announcements);
+        Set<String> changedGroups = diff(previous.groups(), groups);
+        if (changed.isEmpty() && changedGroups.isEmpty()) {
+            return 0;
+        }
+
+        registry.update(editor -> {
+            for (String name : changed) {
+                Announcement announcement = announcements.get(name);
+                if (announcement != null) {
+                    editor.putAnnouncement(announcement);
+                } else {
+                    editor.removeAnnouncement(name);
+                }
+            }
+            for (String name : changedGroups) {
+                AnnouncementGroup group = groups.get(name);
+                if (group != null) {
+                    editor.putGroup(group);
+                } else {
+                    editor.removeGroup(name);
+                }
+            }
+        });
+        if (!changed.isEmpty()) {
+            updateTrackedPermissions();
+        }
+
+        // Group changes can move members between the group and their own interval
+        Set<String> affected = new HashSet<>(changed);
+        for (String name : changedGroups) {
+            AnnouncementGroup before = previous.groups().get(name);
+            AnnouncementGroup after = groups.get(name);
+            if (before != null) {
+                affected.addAll(before.getMembers());
+            }
+            if (after != null) {
+                affected.addAll(after.getMembers());
+                updateGroupSchedule(after);
+            } else {
+                scheduler.unschedule(GROUP_KEY_PREFIX + name);
+            }
+        }
+        for (String name : affected) {
+            updateSchedule(name);
+        }
+
+        return changed.size() + changedGroups.size();
+    }
+
+    /**
+     * Names that were added, changed or removed between two catalogs.
+     */
+    static <T> Set<String> diff(Map<String, T> before, Map<String, T> after) {
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, T> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String name : before.keySet()) {
+            if (!after.containsKey(name)) {
+                changed.add(name);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Schedule or unschedule an announcement based on its settings.
+     * Members of an enabled group are only sent by the group.
+     */
+    private void updateSchedule(String name) {
+        AnnouncementRegistry.Snapshot snapshot = registry.snapshot();
+        Announcement announcement = snapshot.announcements().get(name);
+        if (announcement != null && announcement.isEnabled() && announcement.getInterval() > 0
+                && !snapshot.isGrouped(name)) {
+            scheduler.schedule(name, announcement.getInterval() * 20L, announcement.getJitter() * 20L);
+        } else {
+            scheduler.unschedule(name);
+        }
+    }
+
+    private void updateGroupSchedule(AnnouncementGroup group) {
+        String key = GROUP_KEY_PREFIX + group.getName();
+        if (group.isEnabled() && group.getInterval() > 0 && !group.getMembers().isEmpty()) {
+            scheduler.schedule(key, group.getInterval() * 20L, 0);
+        } else {
+            scheduler.unschedule(key);
+        }
+    }
+
+    private void onScheduled(String key) {
+        if (key.startsWith(GROUP_KEY_PREFIX)) {
+            broadcastGroup(key.substring(GROUP_KEY_PREFIX.length()));
+        } else {
+            broadcast(key);
+        }
+    }
+
+    /**
+     * Stop all scheduled announcements.
+     */
+    public void stopAll() {
+        scheduler.clear();
+    }
+
+    /**
+     * Broadcast an announcement to all players.
+     */
+    public void broadcast(Announcement announcement) {
+        if (announcement == null || !announcement.isEnabled()) {
+            return;
+        }
+
+        CompiledAnnouncement compiledAnnouncement = registry.snapshot().compiled().get(announcement.getName());
+        if (compiledAnnouncement == null) {
+            compiledAnnouncement = CompiledAnnouncement.compile(announcement);
+        }
+        Map<MessageTemplate.Slot, String> sharedValues = plugin.getPlaceholderResolver().getSharedValues();
+        BroadcastDispatcher dispatcher = plugin.getBroadcastDispatcher();
+        AudienceIndex audience = plugin.getAudienceIndex();
+        String target = compiledAnnouncement.getTarget();
+
+        if (!compiledAnnouncement.hasLocaleVariants()) {
+            Deliverable payload = arbitrate(compiledAnnouncement, compiledAnnouncement.createPayload(sharedValues));
+            switch (compiledAnnouncement.getTargetType()) {
+                case WORLD -> dispatcher.broadcast(payload, audience.getWorldAudience(target), player -> true);
+                case PERMISSION -> dispatcher.broadcast(payload, audience.getPermissionAudience(target), player -> true);
+                default -> dispatcher.broadcast(payload);
+            }
+            return;
+        }
+
+        // One render per variant, sent to each locale group that resolves to it.
+        // Targeted announcements only group the players they reach.
+        Map<String, ? extends Collection<Player>> groups = switch (compiledAnnouncement.getTargetType()) {
+            case WORLD -> audience.groupByLocale(audience.getWorldAudience(target));
+            case PERMISSION -> audience.groupByLocale(audience.getPermissionAudience(target));
+            default -> audience.getLocaleGroups();
+        };
+        Map<CompiledAnnouncement.Variant, Deliverable> payloads = new IdentityHashMap<>();
+        CompiledAnnouncement source = compiledAnnouncement;
+        for (Map.Entry<String, ? extends Collection<Player>> group : groups.entrySet()) {
+            if (group.getValue().isEmpty()) {
+                continue;
+            }
+            CompiledAnnouncement.Variant variant = compiledAnnouncement.getVariant(group.getKey());
+            Deliverable payload = payloads.computeIfAbsent(variant,
+                    v -> arbitrate(source, v.createPayload(sharedValues)));
+            dispatcher.broadcast(payload, group.getValue(), player -> true);
+        }
+    }
+
+    /**
+     * Route a payload through the delivery arbiter, so it does not replace a
+     * title or action bar of equal or higher priority that is still shown.
+     */
+    private Deliverable arbitrate(CompiledAnnouncement compiledAnnouncement, Deliverable payload) {
+        DisplayChannel channel = compiledAnnouncement.getChannel();
+        long holdTicks = channel == DisplayChannel.TITLE
+                ? compiledAnnouncement.getTitleTicks()
+                : plugin.getConfigManager().getActionBarHoldTicks();
+        return plugin.getDeliveryArbiter().arbitrate(payload, channel, compiledAnnouncement.getPriority(), holdTicks);
+    }
+
+    /**
+     * Index the permission nodes used by permission-targeted announcements.
+     * Can run on any thread (e.g. the config watcher), so online players are
+     * checked for new nodes on their own entity schedulers.
+     */
+    private void updateTrackedPermissions() {
+        Set<String> nodes = new HashSet<>();
+        for (CompiledAnnouncement compiledAnnouncement : registry.snapshot().compiled().values()) {
+            if (compiledAnnouncement.getTargetType() == TargetType.PERMISSION) {
+                nodes.add(compiledAnnouncement.getTarget());
+            }
+        }
+        AudienceIndex index = plugin.getAudienceIndex();
+        if (!index.setTrackedPermissions(nodes)) {
+            return;
+        }
+        plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+            for (Player player : plugin.getServer().getOnlinePlayers()) {
+                player.getScheduler().run(plugin, task -> index.refreshPermissions(player), null);
+            }
+        });
+    }
+
+    /**
+     * Broadcast the next announcement of a group. Disabled or missing
+     * members are skipped.
+     */
+    public boolean broadcastGroup(String name) {
+        AnnouncementRegistry.Snapshot snapshot = registry.snapshot();
+        RotationCursor cursor = snapshot.cursors().get(name);
+        if (cursor == null) {
+            return false;
+        }
+
+        for (int attempt = 0; attempt < cursor.size(); attempt++) {
+            Announcement announcement = snapshot.announcements().get(cursor.next());
+            if (announcement != null && announcement.isEnabled()) {
+                broadcast(announcement);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Broadcast an announcement by name.
+     */
+    public boolean broadcast(String name) {
+        Announcement announcement = registry.snapshot().announcements().get(name);
+        if (announcement == null) {
+            return false;
+        }
+        broadcast(announcement);
+        return true;
+    }
+
+    /**
+     * Preview an announcement to a specific player.
+     * Compiled on the fly, since the editor may hold unsaved changes.
+     */
+    public void preview(Player player, Announcement announcement) {
+        CompiledAnnouncement.compile(announcement)
+                .getVariant(AudienceIndex.normalizeLocale(player.locale().toString()))
+                .createPayload(plugin.getPlaceholderResolver().getSharedValues())
+                .deliver(player);
+    }
+
+    /**
+     * Save an announcement. A copy is stored, so the caller may keep editing its object.
+     */
+    public void saveAnnouncement(Announcement announcement) {
+        registry.update(editor -> editor.putAnnouncement(announcement));
+        updateTrackedPermissions();
+        plugin.getConfigManager().saveAnnouncement(announcement);
+        
+        // Reschedule if needed
+        updateSchedule(announcement.getName());
+    }
+
+    /**
+     * Delete an announcement.
+     */
+    public void deleteAnnouncement(String name) {
+        registry.update(editor -> editor.removeAnnouncement(name));
+        updateTrackedPermissions();
+        plugin.getConfigManager().deleteAnnouncement(name);
+        scheduler.unschedule(name);
+    }
+
+    /**
+     * Save an announcement group and reschedule it and its (old and new) members.
+     * A copy is stored, so the caller may keep editing its object.
+     */
+    public void saveGroup(AnnouncementGroup group) {
+        AnnouncementGroup previous = registry.snapshot().groups().get(group.getName());
+        registry.update(editor -> editor.putGroup(group));
+        plugin.getConfigManager().saveAnnouncementGroup(group);
+
+        updateGroupSchedule(group);
+        Set<String> affected = new HashSet<>(group.getMembers());
+        if (previous != null) {
+            affected.addAll(previous.getMembers());
+        }
+        for (String member : affected) {
+            updateSchedule(member);
+        }
+    }
+
+    /**
+     * Delete an announcement group. Its members go back to their own intervals.
+     */
+    public void deleteGroup(String name) {
+        AnnouncementGroup removed = registry.snapshot().groups().get(name);
+        registry.update(editor -> editor.removeGroup(name));
+        plugin.getConfigManager().deleteAnnouncementGroup(name);
+        scheduler.unschedule(GROUP_KEY_PREFIX + name);
+
+        if (removed != null) {
+            for (String member : removed.getMembers()) {
+                updateSchedule(member);
+            }
+        }
+    }
+
+    /**
+     * Get a group by name. The returned object must not be modified; edit a copy.
+     */
+    public AnnouncementGroup getGroup(String name) {
+        return registry.snapshot().groups().get(name);
+    }
+
+    /**
+     * Get all announcement groups as an immutable snapshot.
+     */
+    public Map<String, AnnouncementGroup> getGroups() {
+        return registry.snapshot().groups();
+    }
+
+    /**
+     * Create a new group with default values.
+     */
+    public AnnouncementGroup createNewGroup(String name) {
+        return new AnnouncementGroup(name, RotationMode.SEQUENTIAL);
+    }
+
+    public AnnouncementScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public AnnouncementRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Get an announcement by name. The returned object must not be modified; edit a copy.
+     */
+    public Announcement getAnnouncement(String name) {
+        return registry.snapshot().announcements().get(name);
+    }
+
+    /**
+     * Get all announcements as an immutable snapshot.
+     */
+    public Map<String, Announcement> getAnnouncements() {
+        return registry.snapshot().announcements();
+    }
+
+    /**
+     * Create a new announcement with default values.
+     */
+    public Announcement createNew(String name) {
+        return new Announcement(name, "<yellow>New announcement</yellow>", AnnouncementType.ACTION_BAR);
+    }
+}
@@ -0,0 +1,212 @@
+package de.timing.announcer;
+
+import de.timing.broadcast.AudienceIndex;
+import de.timing.broadcast.BroadcastPayload;
+import de.timing.broadcast.Deliverable;
+import de.timing.broadcast.DisplayChannel;
+import de.timing.broadcast.PersonalizedPayload;
+import de.timing.util.MessageTemplate;
+import de.timing.util.MessageUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, ready-to-send form of an announcement.
+ * Message and subtitle are compiled and the Title.Times built once when the
+ * announcement is loaded or saved. Without placeholders the whole payload is
+ * prebuilt and shared by every recipient; with placeholders the shared values
+ * are bound once per broadcast and only {player}/{world} leaves are rendered
+ * per recipient.
+ * <p>
+ * Each locale variant is compiled the same way, so a broadcast renders once
+ * per locale rather than once per player.
+ */
+public final class CompiledAnnouncement {
+
+    private final String name;
+    private final AnnouncementType type;
+    private final TargetType targetType;
+    private final String target;
+    private final int priority;
+    private final Title.Times times;
+    private final long titleTicks;
+    private final Variant defaultVariant;
+    private final Map<String, Variant> localeVariants;
+
+    private CompiledAnnouncement(Announcement announcement, TargetType targetType, String target) {
+        this.name = announcement.getName();
+        this.type = announcement.getType();
+        this.targetType = targetType;
+        this.target = target;
+        this.priority = announcement.getPriority();
+        this.times = createTimes(announcement);
+        this.titleTicks = Math.max(0, announcement.getFadeIn()) + Math.max(0, announcement.getStay());
+        this.defaultVariant = new Variant(announcement.getMessage(), announcement.getSubtitle());
+
+        Map<String, Variant> variants = new HashMap<>();
+        for (Map.Entry<String, String> entry : announcement.getLocalizedMessages().entrySet()) {
+            String subtitle = announcement.getLocalizedSubtitles().getOrDefault(entry.getKey(), announcement.getSubtitle());
+            variants.put(AudienceIndex.normalizeLocale(entry.getKey()), new Variant(entry.getValue(), subtitle));
+        }
+        this.localeVariants = Map.copyOf(variants);
+    }
+
+    /**
+     * Compile an announcement. Later changes to the source object are not reflected.
+     */
+    public static CompiledAnnouncement compile(Announcement announcement) {
+        TargetType targetType = announcement.getTargetType();
+        String target = announcement.getTarget() == null ? "" : announcement.getTarget().trim();
+        if (targetType != TargetType.ALL && target.isEmpty()) {
+            targetType = TargetType.ALL;
+        }
+
+        return new CompiledAnnouncement(announcement, targetType, target);
+    }
+
+    /**
+     * Get the variant for a normalized locale key (e.g. "de_de"): an exact
+     * match, then the language alone (e.g. "de"), then the default.
+     */
+    public Variant getVariant(String locale) {
+        if (localeVariants.isEmpty() || locale == null) {
+            return defaultVariant;
+        }
+        Variant variant = localeVariants.get(locale);
+        if (variant == null) {
+            int separator = locale.indexOf('_');
+            if (separator > 0) {
+                variant = localeVariants.get(locale.substring(0, separator));
+            }
+        }
+        return variant != null ? variant : defaultVariant;
+    }
+
+    /**
+     * Get the payload of the default variant for one broadcast.
+     *
+     * @param sharedValues Placeholder values that are the same for every recipient
+     */
+    public Deliverable createPayload(Map<MessageTemplate.Slot, String> sharedValues) {
+        return defaultVariant.createPayload(sharedValues);
+    }
+
+    public boolean hasLocaleVariants() {
+        return !localeVariants.isEmpty();
+    }
+
+    private static Title.Times createTimes(Announcement announcement) {
+        return Title.Times.times(
+            Duration.ofMillis(announcement.getFadeIn() * 50L),
+            Duration.ofMillis(announcement.getStay() * 50L),
+            Duration.ofMillis(announcement.getFadeOut() * 50L)
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public AnnouncementType getType() {
+        return type;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * World name or permission node, depending on the target type.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Get the display channel this announcement occupies.
+     */
+    public DisplayChannel getChannel() {
+        return type == AnnouncementType.ACTION_BAR ? DisplayChannel.ACTION_BAR : DisplayChannel.TITLE;
+    }
+
+    /**
+     * Ticks a title stays readable (fade-in + stay).
+     */
+    public long getTitleTicks() {
+        return titleTicks;
+    }
+
+    /**
+     * One compiled message/subtitle pair.
+     */
+    public final class Variant {
+
+        private final MessageTemplate message;
+        private final MessageTemplate subtitle;
+        private final BroadcastPayload staticPayload;
+
+        private Variant(String message, String subtitle) {
+            this.message = MessageUtil.compile(message);
+            this.subtitle = MessageUtil.compile(subtitle);
+            boolean dynamic = this.message.hasSlots() || (type == AnnouncementType.TITLE && this.subtitle.hasSlots());
+            this.staticPayload = dynamic ? null : buildPayload(this.message.render(), this.subtitle.render());
+        }
+
+        /**
+         * Get the payload for one broadcast.
+         *
+         * @param sharedValues Placeholder values that are the same for every recipient
+         */
+        public Deliverable createPayload(Map<MessageTemplate.Slot, String> sharedValues) {
+            if (staticPayload != null) {
+                return staticPayload;
+            }
+
+            MessageTemplate boundMessage = message.bind(sharedValues);
+            MessageTemplate boundSubtitle = subtitle.bind(sharedValues);
+            boolean perPlayer = boundMessage.isPerPlayer()
+                    || (type == AnnouncementType.TITLE && boundSubtitle.isPerPlayer());
+            if (!perPlayer) {
+                return buildPayload(boundMessage.render(), boundSubtitle.render());
+            }
+
+            switch (type) {
+                case TITLE:
+                    return PersonalizedPayload.title(boundMessage, boundSubtitle, times);
+                case SUBTITLE:
+                    return PersonalizedPayload.title(MessageUtil.compile(""), boundMessage, times);
+                case ACTION_BAR:
+                default:
+                    return PersonalizedPayload.actionBar(boundMessage);
+            }
+        }
+
+        public MessageTemplate getMessage() {
+            return message;
+        }
+
+        public MessageTemplate getSubtitle() {
+            return subtitle;
+        }
+
+        private BroadcastPayload buildPayload(Component renderedMessage, Component renderedSubtitle) {
+            switch (type) {
+                case TITLE:
+                    return BroadcastPayload.title(Title.title(renderedMessage, renderedSubtitle, times));
+                case SUBTITLE:
+                    return BroadcastPayload.title(Title.title(Component.empty(), renderedMessage, times));
+                case ACTION_BAR:
+                default:
+                    return BroadcastPayload.actionBar(renderedMessage);
+            }
+        }
+    }
+}
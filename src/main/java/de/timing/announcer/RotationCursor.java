@@ -0,0 +1,140 @@
+package de.timing.announcer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the next member of an announcement group.
+ * Order arrays are built once from a group snapshot: SEQUENTIAL walks the
+ * member array, SHUFFLE walks a permutation that is reshuffled once per cycle
+ * (amortized O(1) per pick), and WEIGHTED samples a Vose alias table in O(1).
+ */
+public class RotationCursor {
+
+    private final RotationMode mode;
+    private final String[] members;
+    private final int[] order;
+    private final double[] probability;
+    private final int[] alias;
+    private int position;
+
+    public RotationCursor(AnnouncementGroup group) {
+        this.mode = group.getMode();
+
+        List<String> eligible = new ArrayList<>();
+        for (String member : group.getMembers()) {
+            if (mode != RotationMode.WEIGHTED || group.getWeight(member) > 0) {
+                eligible.add(member);
+            }
+        }
+        this.members = eligible.toArray(new String[0]);
+
+        int count = members.length;
+        this.order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+
+        this.probability = new double[count];
+        this.alias = new int[count];
+        if (mode == RotationMode.WEIGHTED && count > 0) {
+            buildAliasTable(group);
+        }
+        this.position = 0;
+    }
+
+    /**
+     * Get the next member name, or null if the group has no members.
+     */
+    public synchronized String next() {
+        int count = members.length;
+        if (count == 0) {
+            return null;
+        }
+
+        switch (mode) {
+            case WEIGHTED: {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int column = random.nextInt(count);
+                return members[random.nextDouble() < probability[column] ? column : alias[column]];
+            }
+            case SHUFFLE:
+                if (position == 0) {
+                    shuffle();
+                }
+                // fall through
+            case SEQUENTIAL:
+            default: {
+                String member = members[order[position]];
+                position = (position + 1) % count;
+                return member;
+            }
+        }
+    }
+
+    public int size() {
+        return members.length;
+    }
+
+    private void shuffle() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+    }
+
+    /**
+     * Vose's alias method: split the scaled weights into under- and
+     * over-full columns and pair them up so every column sums to 1.
+     */
+    private void buildAliasTable(AnnouncementGroup group) {
+        int count = members.length;
+        double total = 0;
+        for (String member : members) {
+            total += group.getWeight(member);
+        }
+
+        double[] scaled = new double[count];
+        int[] small = new int[count];
+        int[] large = new int[count];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int i = 0; i < count; i++) {
+            scaled[i] = group.getWeight(members[i]) * count / total;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        while (largeSize > 0) {
+            int index = large[--largeSize];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallSize > 0) {
+            int index = small[--smallSize];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package de.timing.announcer;
+
+/**
+ * How an announcement group picks its next message.
+ */
+public enum RotationMode {
+    SEQUENTIAL,
+    SHUFFLE,
+    WEIGHTED
+}
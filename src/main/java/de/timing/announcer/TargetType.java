@@ -0,0 +1,10 @@
+package de.timing.announcer;
+
+/**
+ * Who receives an announcement.
+ */
+public enum TargetType {
+    ALL,
+    WORLD,
+    PERMISSION
+}
@@ -0,0 +1,158 @@
+package de.timing.broadcast;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incrementally maintained audience sets for targeted broadcasts.
+ * Players are indexed by world and by every tracked permission node, and
+ * the sets are updated on join, quit, world change and permission refresh,
+ * so a targeted broadcast only iterates the players it reaches instead of
+ * filtering everyone online. Players are also grouped by client locale, so
+ * localized content is rendered once per locale group.
+ */
+public class AudienceIndex {
+
+    private final Map<String, Set<Player>> byWorld;
+    private final Map<String, Set<Player>> byPermission;
+    private final Map<String, Set<Player>> byLocale;
+    private final Map<Player, String> localeOf;
+
+    public AudienceIndex() {
+        this.byWorld = new ConcurrentHashMap<>();
+        this.byPermission = new ConcurrentHashMap<>();
+        this.byLocale = new ConcurrentHashMap<>();
+        this.localeOf = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Normalize a locale tag to the index key format, e.g. "de-DE" to "de_de".
+     */
+    public static String normalizeLocale(String locale) {
+        return locale.toLowerCase(Locale.ROOT).replace('-', '_');
+    }
+
+    /**
+     * Set the permission nodes to index; nodes no longer used are dropped.
+     * New nodes start empty, since permissions may only be checked on the
+     * player's own thread: the caller refreshes online players there.
+     *
+     * @return true if a node was added
+     */
+    public boolean setTrackedPermissions(Set<String> nodes) {
+        byPermission.keySet().retainAll(nodes);
+        boolean added = false;
+        for (String node : nodes) {
+            added |= byPermission.putIfAbsent(node, ConcurrentHashMap.newKeySet()) == null;
+        }
+        return added;
+    }
+
+    /**
+     * Index a joining player.
+     */
+    public void add(Player player) {
+        byWorld.computeIfAbsent(player.getWorld().getName(), key -> ConcurrentHashMap.newKeySet()).add(player);
+        String locale = normalizeLocale(player.locale().toString());
+        byLocale.computeIfAbsent(locale, key -> ConcurrentHashMap.newKeySet()).add(player);
+        localeOf.put(player, locale);
+        refreshPermissions(player);
+    }
+
+    /**
+     * Remove a leaving player from every set.
+     */
+    public void remove(Player player) {
+        for (Set<Player> audience : byWorld.values()) {
+            audience.remove(player);
+        }
+        for (Set<Player> audience : byPermission.values()) {
+            audience.remove(player);
+        }
+        for (Set<Player> audience : byLocale.values()) {
+            audience.remove(player);
+        }
+        localeOf.remove(player);
+    }
+
+    /**
+     * Move a player to another locale group.
+     */
+    public void changeLocale(Player player, String locale) {
+        for (Set<Player> audience : byLocale.values()) {
+            audience.remove(player);
+        }
+        String normalized = normalizeLocale(locale);
+        byLocale.computeIfAbsent(normalized, key -> ConcurrentHashMap.newKeySet()).add(player);
+        localeOf.put(player, normalized);
+    }
+
+    /**
+     * Move a player between world sets.
+     */
+    public void changeWorld(Player player, String from, String to) {
+        Set<Player> previous = byWorld.get(from);
+        if (previous != null) {
+            previous.remove(player);
+        }
+        byWorld.computeIfAbsent(to, key -> ConcurrentHashMap.newKeySet()).add(player);
+    }
+
+    /**
+     * Re-check the tracked permission nodes for a player.
+     */
+    public void refreshPermissions(Player player) {
+        for (Map.Entry<String, Set<Player>> entry : byPermission.entrySet()) {
+            if (player.hasPermission(entry.getKey())) {
+                entry.getValue().add(player);
+            } else {
+                entry.getValue().remove(player);
+            }
+        }
+    }
+
+    /**
+     * Players in a world. The returned view is live and must not be modified.
+     */
+    public Set<Player> getWorldAudience(String world) {
+        Set<Player> audience = byWorld.get(world);
+        return audience != null ? Collections.unmodifiableSet(audience) : Set.of();
+    }
+
+    /**
+     * Online players grouped by normalized locale. The returned sets are live and must not be modified.
+     */
+    public Map<String, Set<Player>> getLocaleGroups() {
+        return Collections.unmodifiableMap(byLocale);
+    }
+
+    /**
+     * Group the given players by normalized locale, e.g. a world or permission
+     * audience. Costs one lookup per given player, not per online player.
+     * Players that are not indexed are grouped under "".
+     */
+    public Map<String, List<Player>> groupByLocale(Collection<? extends Player> players) {
+        Map<String, List<Player>> groups = new HashMap<>();
+        for (Player player : players) {
+            groups.computeIfAbsent(localeOf.getOrDefault(player, ""), key -> new ArrayList<>()).add(player);
+        }
+        return groups;
+    }
+
+    /**
+     * Players with a tracked permission node. The returned view is live and must not be modified.
+     */
+    public Set<Player> getPermissionAudience(String node) {
+        Set<Player> audience = byPermission.get(node);
+        return audience != null ? Collections.unmodifiableSet(audience) : Set.of();
+    }
+}
@@ -0,0 +1,76 @@
+package de.timing.broadcast;
+
+import de.timing.Timing;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Keeps the audience index in sync with joins, quits, world changes,
+ * permission refreshes and client locale changes, keeps the section tracker
+ * in sync with player movement, and drops the delivery arbiter's state of
+ * players that quit. All of these run on the player's region thread. The server resends the command tree whenever a
+ * player's permissions are recalculated, so PlayerCommandSendEvent is used
+ * as the refresh signal.
+ */
+public class AudienceListener implements Listener {
+
+    private final Timing plugin;
+
+    public AudienceListener(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        plugin.getAudienceIndex().add(event.getPlayer());
+        plugin.getSectionTracker().track(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getAudienceIndex().remove(event.getPlayer());
+        plugin.getSectionTracker().untrack(event.getPlayer());
+        plugin.getDeliveryArbiter().forget(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        plugin.getAudienceIndex().changeWorld(event.getPlayer(), event.getFrom().getName(),
+                event.getPlayer().getWorld().getName());
+        plugin.getSectionTracker().track(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        plugin.getSectionTracker().move(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        plugin.getSectionTracker().move(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        plugin.getSectionTracker().track(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLocaleChange(PlayerLocaleChangeEvent event) {
+        plugin.getAudienceIndex().changeLocale(event.getPlayer(), event.getLocale());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerCommandSend(PlayerCommandSendEvent event) {
+        plugin.getAudienceIndex().refreshPermissions(event.getPlayer());
+    }
+}
@@ -0,0 +1,140 @@
+package de.timing.broadcast;
+
+import de.timing.Timing;
+import de.timing.broadcast.SectionTracker.SectionKey;
+import de.timing.util.MessageTemplate;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Central fan-out for all player-facing broadcasts.
+ * Recipients are grouped by world and region section, and each group is sent
+ * from its own region thread through the region scheduler, so sends are
+ * Folia-correct and spread over region threads instead of spiking the global
+ * one. Sections come from the SectionTracker, so grouping never reads a
+ * player's location off its region thread. Players that moved to another
+ * region in the meantime, or are not tracked yet, are handed to their entity
+ * scheduler.
+ */
+public class BroadcastDispatcher {
+
+    private final Timing plugin;
+    private volatile long lastFanOutNanos;
+    private volatile int lastRecipients;
+
+    public BroadcastDispatcher(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Broadcast a chat message template to every online player. Shared
+     * placeholders and the given values are filled in once; {player} and
+     * {world} are filled in per recipient.
+     */
+    public void broadcastChat(MessageTemplate template, Map<MessageTemplate.Slot, String> values) {
+        Map<MessageTemplate.Slot, String> shared = new EnumMap<>(MessageTemplate.Slot.class);
+        shared.putAll(plugin.getPlaceholderResolver().getSharedValues());
+        shared.putAll(values);
+
+        MessageTemplate bound = template.bind(shared);
+        broadcast(bound.isPerPlayer() ? PersonalizedPayload.chat(bound) : BroadcastPayload.chat(bound.render()));
+    }
+
+    /**
+     * Broadcast a payload to every online player.
+     */
+    public void broadcast(Deliverable payload) {
+        broadcast(payload, player -> true);
+    }
+
+    /**
+     * Broadcast a payload to every online player matching the filter.
+     * The filter is evaluated on the calling thread.
+     */
+    public void broadcast(Deliverable payload, Predicate<Player> filter) {
+        broadcast(payload, plugin.getServer().getOnlinePlayers(), filter);
+    }
+
+    /**
+     * Broadcast a payload to the given players matching the filter.
+     */
+    public void broadcast(Deliverable payload, Iterable<? extends Player> players, Predicate<Player> filter) {
+        long start = System.nanoTime();
+        Map<SectionKey, List<Player>> batches = new HashMap<>();
+        SectionTracker sections = plugin.getSectionTracker();
+        int recipients = 0;
+
+        for (Player player : players) {
+            if (!filter.test(player)) {
+                continue;
+            }
+            SectionKey key = sections.get(player);
+            if (key == null) {
+                player.getScheduler().run(plugin, task -> payload.deliver(player), null);
+            } else {
+                batches.computeIfAbsent(key, k -> new ArrayList<>()).add(player);
+            }
+            recipients++;
+        }
+
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(batches.size());
+        int total = recipients;
+        for (Map.Entry<SectionKey, List<Player>> entry : batches.entrySet()) {
+            SectionKey key = entry.getKey();
+            List<Player> batch = entry.getValue();
+
+            plugin.getServer().getRegionScheduler().execute(plugin, key.world(), key.chunkX(), key.chunkZ(), () -> {
+                deliverBatch(payload, batch);
+                if (remaining.decrementAndGet() == 0) {
+                    recordFanOut(start, total, batches.size());
+                }
+            });
+        }
+    }
+
+    private void deliverBatch(Deliverable payload, List<Player> batch) {
+        for (Player player : batch) {
+            if (!player.isOnline()) {
+                continue;
+            }
+            if (plugin.getServer().isOwnedByCurrentRegion(player)) {
+                payload.deliver(player);
+            } else {
+                player.getScheduler().run(plugin, task -> payload.deliver(player), null);
+            }
+        }
+    }
+
+    private void recordFanOut(long start, int recipients, int batches) {
+        long elapsed = System.nanoTime() - start;
+        lastFanOutNanos = elapsed;
+        lastRecipients = recipients;
+        if (plugin.getConfigManager().isDebug()) {
+            plugin.getLogger().info("Broadcast fan-out: " + recipients + " players in " + batches
+                    + " region batches took " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+        }
+    }
+
+    /**
+     * Time from the last broadcast call until its final batch was delivered.
+     */
+    public long getLastFanOutMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastFanOutNanos);
+    }
+
+    public int getLastRecipients() {
+        return lastRecipients;
+    }
+}
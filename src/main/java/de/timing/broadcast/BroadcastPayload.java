@@ -0,0 +1,44 @@
+package de.timing.broadcast;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+
+/**
+ * Immutable, prepared broadcast content. One payload object is shared by all
+ * recipients of a broadcast; any part may be null.
+ *
+ * @param chat      Chat message
+ * @param actionBar Action bar message
+ * @param title     Title (with subtitle and times)
+ */
+public record BroadcastPayload(Component chat, Component actionBar, Title title) implements Deliverable {
+
+    public static BroadcastPayload chat(Component message) {
+        return new BroadcastPayload(message, null, null);
+    }
+
+    public static BroadcastPayload actionBar(Component message) {
+        return new BroadcastPayload(null, message, null);
+    }
+
+    public static BroadcastPayload title(Title title) {
+        return new BroadcastPayload(null, null, title);
+    }
+
+    /**
+     * Send this payload to a player. Must run on the player's region thread.
+     */
+    @Override
+    public void deliver(Player player) {
+        if (chat != null) {
+            player.sendMessage(chat);
+        }
+        if (actionBar != null) {
+            player.sendActionBar(actionBar);
+        }
+        if (title != null) {
+            player.showTitle(title);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package de.timing.broadcast;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Content that the dispatcher can send to a player.
+ */
+public interface Deliverable {
+
+    /**
+     * Send to a player. Called on the player's region thread.
+     */
+    void deliver(Player player);
+}
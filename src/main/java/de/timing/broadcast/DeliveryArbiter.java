@@ -0,0 +1,152 @@
+package de.timing.broadcast;
+
+import de.timing.Timing;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides per player whether a title or action bar may be shown now.
+ * Each channel remembers until when its current message is on screen and
+ * with which priority. A delivery with a higher priority, or to an idle
+ * channel, is shown at once; anything else is deferred until the channel
+ * frees up. Only the newest deferred delivery per player and channel is
+ * kept, and one that would wait too long or finds the channel taken again
+ * is dropped, so coinciding broadcasts no longer stomp on each other.
+ * <p>
+ * Each channel's state is striped over several tables by UUID hash, each with
+ * its own lock, so region threads delivering to different players rarely
+ * contend.
+ */
+public class DeliveryArbiter {
+
+    private static final long TICK_MILLIS = 50L;
+    private static final int STRIPE_BITS = 5;
+
+    private final Timing plugin;
+    private final Map<DisplayChannel, PlayerChannelTable[]> tables;
+    private final AtomicInteger tickets;
+    private final AtomicLong coalesced;
+
+    public DeliveryArbiter(Timing plugin) {
+        this.plugin = plugin;
+        this.tables = new EnumMap<>(DisplayChannel.class);
+        for (DisplayChannel channel : DisplayChannel.values()) {
+            PlayerChannelTable[] stripes = new PlayerChannelTable[1 << STRIPE_BITS];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new PlayerChannelTable();
+            }
+            tables.put(channel, stripes);
+        }
+        this.tickets = new AtomicInteger();
+        this.coalesced = new AtomicLong();
+    }
+
+    /**
+     * Wrap a payload so each recipient's delivery goes through the arbiter.
+     *
+     * @param channel   Channel the payload occupies
+     * @param priority  Higher priorities replace lower ones that are still shown
+     * @param holdTicks How long the payload occupies the channel
+     */
+    public Deliverable arbitrate(Deliverable payload, DisplayChannel channel, int priority, long holdTicks) {
+        return player -> deliver(player, payload, channel, priority, holdTicks);
+    }
+
+    /**
+     * Forget a player's channel state, e.g. on quit.
+     */
+    public void forget(UUID id) {
+        for (DisplayChannel channel : DisplayChannel.values()) {
+            PlayerChannelTable table = table(channel, id);
+            synchronized (table) {
+                table.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Number of deliveries dropped because they were superseded or could not be shown in time.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    private void deliver(Player player, Deliverable payload, DisplayChannel channel, int priority, long holdTicks) {
+        PlayerChannelTable table = table(channel, player.getUniqueId());
+        long now = now();
+        long waitMillis;
+        int ticket = 0;
+
+        synchronized (table) {
+            int index = table.findOrInsert(player.getUniqueId());
+            waitMillis = table.getBusyUntil(index) - now;
+            if (waitMillis <= 0 || priority > table.getPriority(index)) {
+                table.claim(index, now + holdTicks * TICK_MILLIS, priority);
+                waitMillis = 0;
+            } else if (waitMillis <= plugin.getConfigManager().getMaxDeferTicks() * TICK_MILLIS) {
+                ticket = nextTicket();
+                if (table.getPending(index) != 0) {
+                    coalesced.incrementAndGet();
+                }
+                table.setPending(index, ticket);
+            }
+        }
+
+        if (waitMillis == 0) {
+            payload.deliver(player);
+        } else if (ticket == 0) {
+            coalesced.incrementAndGet();
+        } else {
+            int deferredTicket = ticket;
+            long delayTicks = (waitMillis + TICK_MILLIS - 1) / TICK_MILLIS;
+            player.getScheduler().runDelayed(plugin,
+                    task -> deliverDeferred(player, payload, channel, priority, holdTicks, deferredTicket),
+                    null, delayTicks);
+        }
+    }
+
+    private void deliverDeferred(Player player, Deliverable payload, DisplayChannel channel, int priority,
+            long holdTicks, int ticket) {
+        PlayerChannelTable table = table(channel, player.getUniqueId());
+        long now = now();
+
+        synchronized (table) {
+            int index = table.find(player.getUniqueId());
+            if (index < 0 || table.getPending(index) != ticket) {
+                return; // Superseded by a newer deferred delivery, already counted
+            }
+            table.setPending(index, 0);
+            // One tick of grace, the scheduler may run slightly before the deadline
+            if (table.getBusyUntil(index) - now > TICK_MILLIS && priority <= table.getPriority(index)) {
+                coalesced.incrementAndGet();
+                return;
+            }
+            table.claim(index, now + holdTicks * TICK_MILLIS, priority);
+        }
+
+        payload.deliver(player);
+    }
+
+    /**
+     * Get the stripe holding a player's state for a channel. Uses the top bits
+     * of the hash; the table itself probes from the middle bits.
+     */
+    private PlayerChannelTable table(DisplayChannel channel, UUID id) {
+        long hash = (id.getMostSignificantBits() ^ id.getLeastSignificantBits()) * 0x9E3779B97F4A7C15L;
+        return tables.get(channel)[(int) (hash >>> (Long.SIZE - STRIPE_BITS))];
+    }
+
+    private int nextTicket() {
+        int ticket = tickets.incrementAndGet();
+        return ticket != 0 ? ticket : tickets.incrementAndGet();
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000L;
+    }
+}
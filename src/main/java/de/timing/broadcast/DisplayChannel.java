@@ -0,0 +1,10 @@
+package de.timing.broadcast;
+
+/**
+ * Client display areas that hold one message at a time, so a new message
+ * replaces whatever is currently shown.
+ */
+public enum DisplayChannel {
+    TITLE,
+    ACTION_BAR
+}
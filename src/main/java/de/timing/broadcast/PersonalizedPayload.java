@@ -0,0 +1,83 @@
+package de.timing.broadcast;
+
+import de.timing.util.MessageTemplate;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Broadcast content with per-recipient placeholders ({player}, {world}).
+ * The templates are already bound to the shared values, so only the
+ * per-player leaves are filled in for each recipient. When no {player}
+ * slot is used, the rendered payload is cached per world and shared.
+ */
+public final class PersonalizedPayload implements Deliverable {
+
+    private final MessageTemplate chat;
+    private final MessageTemplate actionBar;
+    private final MessageTemplate title;
+    private final MessageTemplate subtitle;
+    private final Title.Times times;
+    private final boolean perWorld;
+    private final Map<String, BroadcastPayload> worldCache;
+
+    private PersonalizedPayload(MessageTemplate chat, MessageTemplate actionBar, MessageTemplate title,
+            MessageTemplate subtitle, Title.Times times) {
+        this.chat = chat;
+        this.actionBar = actionBar;
+        this.title = title;
+        this.subtitle = subtitle;
+        this.times = times;
+        this.perWorld = !uses(MessageTemplate.Slot.PLAYER);
+        this.worldCache = new ConcurrentHashMap<>();
+    }
+
+    public static PersonalizedPayload chat(MessageTemplate message) {
+        return new PersonalizedPayload(message, null, null, null, null);
+    }
+
+    public static PersonalizedPayload actionBar(MessageTemplate message) {
+        return new PersonalizedPayload(null, message, null, null, null);
+    }
+
+    public static PersonalizedPayload title(MessageTemplate title, MessageTemplate subtitle, Title.Times times) {
+        return new PersonalizedPayload(null, null, title, subtitle, times);
+    }
+
+    @Override
+    public void deliver(Player player) {
+        String world = player.getWorld().getName();
+        if (perWorld) {
+            worldCache.computeIfAbsent(world, key -> render(null, key)).deliver(player);
+        } else {
+            render(player.getName(), world).deliver(player);
+        }
+    }
+
+    private BroadcastPayload render(String playerName, String world) {
+        Map<MessageTemplate.Slot, String> values = new EnumMap<>(MessageTemplate.Slot.class);
+        values.put(MessageTemplate.Slot.WORLD, world);
+        if (playerName != null) {
+            values.put(MessageTemplate.Slot.PLAYER, playerName);
+        }
+
+        Title fullTitle = null;
+        if (title != null) {
+            Component renderedSubtitle = subtitle != null ? subtitle.render(values) : Component.empty();
+            fullTitle = Title.title(title.render(values), renderedSubtitle, times);
+        }
+        return new BroadcastPayload(
+                chat != null ? chat.render(values) : null,
+                actionBar != null ? actionBar.render(values) : null,
+                fullTitle);
+    }
+
+    private boolean uses(MessageTemplate.Slot slot) {
+        return (chat != null && chat.uses(slot)) || (actionBar != null && actionBar.uses(slot))
+                || (title != null && title.uses(slot)) || (subtitle != null && subtitle.uses(slot));
+    }
+}
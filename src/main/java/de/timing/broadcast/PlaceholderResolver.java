@@ -0,0 +1,54 @@
+package de.timing.broadcast;
+
+import de.timing.Timing;
+import de.timing.util.MessageTemplate;
+import de.timing.util.MessageUtil;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resolves the placeholder values shared by all recipients: {online} and the
+ * remaining time of each timer ({beginning}, {restart}, {end}).
+ * Values are computed at most once per server tick and reused by every
+ * broadcast in that tick.
+ */
+public class PlaceholderResolver {
+
+    private static final long TICK_NANOS = 50_000_000L;
+
+    private final Timing plugin;
+    private volatile Snapshot snapshot;
+
+    public PlaceholderResolver(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Get the shared placeholder values for the current tick.
+     */
+    public Map<MessageTemplate.Slot, String> getSharedValues() {
+        long tick = System.nanoTime() / TICK_NANOS;
+        Snapshot current = snapshot;
+        if (current != null && current.tick() == tick) {
+            return current.values();
+        }
+
+        Map<MessageTemplate.Slot, String> values = new EnumMap<>(MessageTemplate.Slot.class);
+        values.put(MessageTemplate.Slot.ONLINE, String.valueOf(plugin.getServer().getOnlinePlayers().size()));
+        values.put(MessageTemplate.Slot.BEGINNING,
+                MessageUtil.formatTime(plugin.getBeginningTimerManager().getRemainingSeconds()));
+        values.put(MessageTemplate.Slot.RESTART,
+                MessageUtil.formatTime(plugin.getRestartTimerManager().getRemainingSeconds()));
+        values.put(MessageTemplate.Slot.END,
+                MessageUtil.formatTime(plugin.getEndTimerManager().getRemainingSeconds()));
+
+        Map<MessageTemplate.Slot, String> shared = Collections.unmodifiableMap(values);
+        snapshot = new Snapshot(tick, shared);
+        return shared;
+    }
+
+    private record Snapshot(long tick, Map<MessageTemplate.Slot, String> values) {
+    }
+}
@@ -0,0 +1,158 @@
+package de.timing.broadcast;
+
+import java.util.UUID;
+
+/**
+ * Primitive open-addressing table from player UUID to the state of one
+ * display channel: the time (ms) until which the channel is busy, the
+ * priority of what is shown and the ticket of a pending deferred delivery.
+ * UUIDs are stored as two longs and values in parallel arrays, so lookups
+ * neither box nor allocate entries. Uses linear probing with backward-shift
+ * deletion. Not thread-safe; callers synchronize on the table. The arbiter
+ * stripes players over several tables, so each one starts small.
+ */
+final class PlayerChannelTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] most;
+    private long[] least;
+    private boolean[] used;
+    private long[] busyUntil;
+    private int[] priority;
+    private int[] pending;
+    private int size;
+    private int mask;
+
+    PlayerChannelTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Get the index of a player, or -1 if absent.
+     */
+    int find(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int i = home(msb, lsb); used[i]; i = (i + 1) & mask) {
+            if (most[i] == msb && least[i] == lsb) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the index of a player, inserting an idle entry if absent.
+     */
+    int findOrInsert(UUID id) {
+        int index = find(id);
+        if (index >= 0) {
+            return index;
+        }
+        if ((size + 1) * 4 > used.length * 3) {
+            resize(used.length * 2);
+        }
+        return insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), 0, 0, 0);
+    }
+
+    void remove(UUID id) {
+        int hole = find(id);
+        if (hole < 0) {
+            return;
+        }
+
+        // Shift later entries of the probe chain back so lookups never stop early
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (!used[i]) {
+                break;
+            }
+            int wanted = home(most[i], least[i]);
+            boolean movable = hole <= i ? (wanted <= hole || wanted > i) : (wanted <= hole && wanted > i);
+            if (movable) {
+                most[hole] = most[i];
+                least[hole] = least[i];
+                busyUntil[hole] = busyUntil[i];
+                priority[hole] = priority[i];
+                pending[hole] = pending[i];
+                hole = i;
+            }
+        }
+        used[hole] = false;
+        size--;
+    }
+
+    long getBusyUntil(int index) {
+        return busyUntil[index];
+    }
+
+    int getPriority(int index) {
+        return priority[index];
+    }
+
+    int getPending(int index) {
+        return pending[index];
+    }
+
+    void claim(int index, long until, int claimPriority) {
+        busyUntil[index] = until;
+        priority[index] = claimPriority;
+    }
+
+    void setPending(int index, int ticket) {
+        pending[index] = ticket;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int insert(long msb, long lsb, long until, int claimPriority, int ticket) {
+        int i = home(msb, lsb);
+        while (used[i]) {
+            i = (i + 1) & mask;
+        }
+        used[i] = true;
+        most[i] = msb;
+        least[i] = lsb;
+        busyUntil[i] = until;
+        priority[i] = claimPriority;
+        pending[i] = ticket;
+        size++;
+        return i;
+    }
+
+    private int home(long msb, long lsb) {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = most;
+        long[] oldLeast = least;
+        boolean[] oldUsed = used;
+        long[] oldBusyUntil = busyUntil;
+        int[] oldPriority = priority;
+        int[] oldPending = pending;
+
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                insert(oldMost[i], oldLeast[i], oldBusyUntil[i], oldPriority[i], oldPending[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        most = new long[capacity];
+        least = new long[capacity];
+        used = new boolean[capacity];
+        busyUntil = new long[capacity];
+        priority = new int[capacity];
+        pending = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+}
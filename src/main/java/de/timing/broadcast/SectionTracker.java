@@ -0,0 +1,88 @@
+package de.timing.broadcast;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known region section of every online player.
+ * Updated on the player's own region thread from join, move, teleport,
+ * respawn and world change events, so the global thread can group players by
+ * region without reading their location, which only the owning region may do.
+ */
+public class SectionTracker {
+
+    // Group by 16x16 chunk sections, matching Folia's default region section size
+    private static final int SECTION_SHIFT = 4 + 4;
+
+    private final Map<UUID, SectionKey> sections;
+
+    public SectionTracker() {
+        this.sections = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Record a player's location. Must run on the player's region thread.
+     */
+    public void track(Player player, Location location) {
+        sections.put(player.getUniqueId(), SectionKey.of(location));
+    }
+
+    /**
+     * Record a move only if it crossed a section border, so it is cheap
+     * enough for every move event.
+     */
+    public void move(Player player, Location from, Location to) {
+        if (to == null) {
+            return;
+        }
+        if (from.getWorld() == to.getWorld()
+                && from.getBlockX() >> SECTION_SHIFT == to.getBlockX() >> SECTION_SHIFT
+                && from.getBlockZ() >> SECTION_SHIFT == to.getBlockZ() >> SECTION_SHIFT) {
+            return;
+        }
+        track(player, to);
+    }
+
+    public void untrack(Player player) {
+        sections.remove(player.getUniqueId());
+    }
+
+    /**
+     * Get a player's last known section. Safe to call from any thread.
+     *
+     * @return The section, or null if the player has not been tracked yet
+     */
+    public SectionKey get(Player player) {
+        return sections.get(player.getUniqueId());
+    }
+
+    /**
+     * A region section: a 16x16 chunk square in one world.
+     */
+    public record SectionKey(World world, int sectionX, int sectionZ) {
+
+        public static SectionKey of(Location location) {
+            return new SectionKey(location.getWorld(),
+                    location.getBlockX() >> SECTION_SHIFT, location.getBlockZ() >> SECTION_SHIFT);
+        }
+
+        /**
+         * X coordinate of the section's first chunk, for the region scheduler.
+         */
+        public int chunkX() {
+            return sectionX << 4;
+        }
+
+        /**
+         * Z coordinate of the section's first chunk, for the region scheduler.
+         */
+        public int chunkZ() {
+            return sectionZ << 4;
+        }
+    }
+}
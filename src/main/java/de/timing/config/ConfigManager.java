@@ -1,184 +1,622 @@
-package de.timing.config;
-
-import de.timing.Timing;
-import de.timing.announcer.Announcement;
-import de.timing.announcer.AnnouncementType;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * Manages plugin configuration and provides access to config values.
- */
-public class ConfigManager {
-
-    private final Timing plugin;
-
-    public ConfigManager(Timing plugin) {
-        this.plugin = plugin;
-    }
-
-    public void reload() {
-        plugin.reloadConfig();
-    }
-
-    public FileConfiguration getConfig() {
-        return plugin.getConfig();
-    }
-
-    // ========== Server State ==========
-
-    public boolean isServerStartedState() {
-        return getConfig().getBoolean("server-state.started", false);
-    }
-
-    public void setServerStartedState(boolean started) {
-        getConfig().set("server-state.started", started);
-        plugin.saveConfig();
-    }
-
-    // ========== Timer State Persistence ==========
-
-    public int getSavedBeginningTimerSeconds() {
-        return getConfig().getInt("server-state.beginning-timer-remaining", 0);
-    }
-
-    public void saveBeginningTimerState(int seconds) {
-        getConfig().set("server-state.beginning-timer-remaining", seconds);
-        plugin.saveConfig();
-    }
-
-    public int getSavedEndTimerSeconds() {
-        return getConfig().getInt("server-state.end-timer-remaining", 0);
-    }
-
-    public void saveEndTimerState(int seconds) {
-        getConfig().set("server-state.end-timer-remaining", seconds);
-        plugin.saveConfig();
-    }
-
-    // ========== Beginning Timer Config ==========
-
-    public String getBeginningTimerMotdFormat() {
-        return getConfig().getString("beginning-timer.motd-format", 
-            "<red><bold>Server Starting</bold></red>\n<yellow>Starting in: <white>{time}</white></yellow>");
-    }
-
-    public String getBeginningTimerKickMessage() {
-        return getConfig().getString("beginning-timer.kick-message",
-            "<red><bold>Server is Starting!</bold></red>\n\n<yellow>The server will open in <white>{time}</white></yellow>");
-    }
-
-    public boolean isDisableWhitelistOnEnd() {
-        return getConfig().getBoolean("beginning-timer.disable-whitelist-on-end", true);
-    }
-
-    // ========== Restart Timer Config ==========
-
-    public String getRestartTimerMotdFormat() {
-        return getConfig().getString("restart-timer.motd-format",
-            "<red><bold>Server Restarting</bold></red>\n<yellow>Stopping in: <white>{time}</white></yellow>");
-    }
-
-    public String getRestartTimerKickMessage() {
-        return getConfig().getString("restart-timer.kick-message",
-            "<red><bold>Server is Stopping!</bold></red>\n\n<yellow>The server will stop in <white>{time}</white></yellow>");
-    }
-
-    public boolean isKickAllOnRestart() {
-        return getConfig().getBoolean("restart-timer.kick-all-on-end", true);
-    }
-
-    public String getRestartFinalKickMessage() {
-        return getConfig().getString("restart-timer.final-kick-message",
-            "<red><bold>Server Stopped</bold></red>\n\n<gray>Please reconnect shortly!</gray>");
-    }
-
-    // ========== End Timer Config (End Dimension) ==========
-
-    public String getEndTimerMotdFormat() {
-        return getConfig().getString("end-timer.motd-format",
-            "<light_purple><bold>The End</bold></light_purple>\n<yellow>Opens in: <white>{time}</white></yellow>");
-    }
-
-    // ========== MOTD Config ==========
-
-    public String getMotdLine1() {
-        return getConfig().getString("motd.line1", "<gradient:gold:yellow><bold>My Server</bold></gradient>");
-    }
-
-    public String getMotdLine2() {
-        return getConfig().getString("motd.line2", "<gray>Welcome to the server!</gray>");
-    }
-
-    public boolean isMotdEnabled() {
-        return getConfig().getBoolean("motd.enabled", true);
-    }
-
-    public void saveMotdConfig(de.timing.motd.MotdConfig motdConfig) {
-        getConfig().set("motd.line1", motdConfig.getLine1());
-        getConfig().set("motd.line2", motdConfig.getLine2());
-        getConfig().set("motd.enabled", motdConfig.isEnabled());
-        plugin.saveConfig();
-    }
-
-    // ========== Announcements Config ==========
-
-    public Map<String, Announcement> loadAnnouncements() {
-        Map<String, Announcement> announcements = new HashMap<>();
-        ConfigurationSection section = getConfig().getConfigurationSection("announcements");
-        
-        if (section == null) {
-            return announcements;
-        }
-
-        for (String key : section.getKeys(false)) {
-            ConfigurationSection announcementSection = section.getConfigurationSection(key);
-            if (announcementSection == null) continue;
-
-            String message = announcementSection.getString("message", "");
-            String typeStr = announcementSection.getString("type", "ACTION_BAR");
-            AnnouncementType type;
-            try {
-                type = AnnouncementType.valueOf(typeStr.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                type = AnnouncementType.ACTION_BAR;
-            }
-
-            Announcement announcement = new Announcement(key, message, type);
-            announcement.setSubtitle(announcementSection.getString("subtitle", ""));
-            announcement.setFadeIn(announcementSection.getInt("fade-in", 10));
-            announcement.setStay(announcementSection.getInt("stay", 70));
-            announcement.setFadeOut(announcementSection.getInt("fade-out", 20));
-            announcement.setInterval(announcementSection.getInt("interval", 0));
-            announcement.setEnabled(announcementSection.getBoolean("enabled", true));
-
-            announcements.put(key, announcement);
-        }
-
-        return announcements;
-    }
-
-    public void saveAnnouncement(Announcement announcement) {
-        String path = "announcements." + announcement.getName();
-        FileConfiguration config = getConfig();
-
-        config.set(path + ".message", announcement.getMessage());
-        config.set(path + ".type", announcement.getType().name());
-        config.set(path + ".subtitle", announcement.getSubtitle());
-        config.set(path + ".fade-in", announcement.getFadeIn());
-        config.set(path + ".stay", announcement.getStay());
-        config.set(path + ".fade-out", announcement.getFadeOut());
-        config.set(path + ".interval", announcement.getInterval());
-        config.set(path + ".enabled", announcement.isEnabled());
-
-        plugin.saveConfig();
-    }
-
-    public void deleteAnnouncement(String name) {
-        getConfig().set("announcements." + name, null);
-        plugin.saveConfig();
-    }
-}
+package de.timing.config;
+
+import de.timing.Timing;
+import de.timing.announcer.Announcement;
+import de.timing.announcer.AnnouncementGroup;
+import de.timing.announcer.AnnouncementType;
+import de.timing.announcer.RotationMode;
+import de.timing.announcer.TargetType;
+import de.timing.state.ServerState;
+import de.timing.util.FilePersister;
+import de.timing.util.MessageTemplate;
+import net.kyori.adventure.bossbar.BossBar;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * Manages plugin configuration and provides access to config values.
+ * Settings are read once into an immutable {@link ConfigSnapshot} that is
+ * swapped atomically on reload; the getters below only dereference it.
+ * <p>
+ * Changes are written behind by a {@link FilePersister}. Every access to
+ * the live configuration is synchronized on this manager, since changes can
+ * come from any region thread while the persister serializes it.
+ * <p>
+ * The persister never overwrites a hand edit of config.yml. Instead, the
+ * paths changed in game since the last write are remembered, and a reload
+ * takes the file from disk and re-applies only those paths on top of it.
+ */
+public class ConfigManager {
+
+    private final Timing plugin;
+    private final Path file;
+    private final FilePersister persister;
+    // Paths changed in game and not written yet; guarded by this
+    private final Set<String> pendingPaths;
+    private long changeCount;
+    private volatile FileConfiguration config;
+    private volatile ConfigSnapshot snapshot;
+
+    public ConfigManager(Timing plugin) {
+        this.plugin = plugin;
+        this.file = plugin.getDataFolder().toPath().resolve("config.yml");
+        this.persister = new FilePersister(plugin, file, this::serialize, true);
+        this.pendingPaths = new LinkedHashSet<>();
+        this.config = plugin.getConfig();
+        this.snapshot = ConfigSnapshot.load(config);
+    }
+
+    /**
+     * Reload config.yml from disk and publish a new snapshot.
+     * In-game changes that were not written yet are re-applied on top of the
+     * file, so neither they nor a hand edit of the file are lost.
+     */
+    public void reload() {
+        byte[] content;
+        YamlConfiguration loaded = new YamlConfiguration();
+        try {
+            content = Files.readAllBytes(file);
+            loaded.loadFromString(new String(content, StandardCharsets.UTF_8));
+        } catch (IOException | InvalidConfigurationException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not reload config.yml, keeping the current configuration", e);
+            return;
+        }
+        long checksum = FilePersister.checksum(content);
+
+        persister.runExclusive(() -> {
+            synchronized (this) {
+                PendingEdits edits = capturePendingEdits();
+                applyEdits(loaded, edits);
+                config = loaded;
+                snapshot = ConfigSnapshot.load(config, snapshot);
+                acknowledge(checksum, edits);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Copy the values of the paths changed in game since the last write, so
+     * they can be re-applied to a freshly loaded file.
+     */
+    public synchronized PendingEdits capturePendingEdits() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String path : pendingPaths) {
+            // No default fallback: a path removed in game must stay removed
+            values.put(path, detach(config.get(path, null)));
+        }
+        return new PendingEdits(changeCount, values);
+    }
+
+    /**
+     * Re-apply captured in-game edits to a configuration that is not shared with other threads.
+     */
+    public static void applyEdits(ConfigurationSection target, PendingEdits edits) {
+        for (Map.Entry<String, Object> entry : edits.values().entrySet()) {
+            target.set(entry.getKey(), null);
+            if (entry.getValue() instanceof Map<?, ?> section) {
+                target.createSection(entry.getKey(), section);
+            } else if (entry.getValue() != null) {
+                target.set(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Replace the live configuration with one loaded elsewhere (e.g. by the
+     * config watcher) together with its snapshot. The configuration must
+     * already contain the given in-game edits. Refused if another in-game
+     * change was made since they were captured, so it is not dropped; capture
+     * and merge again in that case.
+     *
+     * @param checksum Checksum of the file the configuration was loaded from
+     * @return true if the configuration was replaced
+     */
+    public boolean replace(FileConfiguration config, ConfigSnapshot snapshot, PendingEdits edits, long checksum) {
+        return persister.runExclusive(() -> {
+            synchronized (this) {
+                if (changeCount != edits.changeCount()) {
+                    return false;
+                }
+                this.config = config;
+                this.snapshot = snapshot;
+                acknowledge(checksum, edits);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * The file on disk has been merged: let the persister write again, and
+     * write the re-applied edits on top of it.
+     */
+    private void acknowledge(long checksum, PendingEdits edits) {
+        boolean external = persister.acknowledge(checksum);
+        if (!edits.values().isEmpty()) {
+            if (external) {
+                plugin.getLogger().warning("config.yml was changed on disk while in-game changes were pending;"
+                        + " kept the file and re-applied " + edits.values().keySet());
+            }
+            persister.markDirty();
+        }
+    }
+
+    /**
+     * Record an in-game change to a path and schedule a write. Must hold this manager's lock.
+     */
+    private void markChanged(String path) {
+        pendingPaths.add(path);
+        changeCount++;
+        persister.markDirty();
+    }
+
+    /**
+     * Deep-copy a configuration value, turning sections into plain maps.
+     */
+    private static Object detach(Object value) {
+        if (value instanceof ConfigurationSection section) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (String key : section.getKeys(false)) {
+                copy.put(key, detach(section.get(key)));
+            }
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        return value;
+    }
+
+    /**
+     * Write pending changes now, re-applied on top of the file if it was edited
+     * by hand in the meantime. Must not be called while holding this manager's lock.
+     */
+    public void flush() {
+        if (persister.isDirty()) {
+            reload();
+        }
+        persister.flush();
+    }
+
+    public FilePersister getPersister() {
+        return persister;
+    }
+
+    private synchronized byte[] serialize() {
+        pendingPaths.clear();
+        return getConfig().saveToString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public FileConfiguration getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the current settings snapshot. Read it once per operation to see consistent values.
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public boolean isDebug() {
+        return snapshot.debug();
+    }
+
+    // ========== Delivery ==========
+
+    /**
+     * Ticks an action bar occupies its channel before an equal- or lower-priority one may replace it.
+     */
+    public int getActionBarHoldTicks() {
+        return snapshot.delivery().actionBarHoldTicks();
+    }
+
+    /**
+     * Longest a title or action bar may be deferred; deliveries that would wait longer are dropped.
+     */
+    public int getMaxDeferTicks() {
+        return snapshot.delivery().maxDeferTicks();
+    }
+
+    // ========== Legacy Server State ==========
+
+    /**
+     * Remove the old server-state section, which now lives in the state store.
+     *
+     * @return Its values, or null if the config has none
+     */
+    public synchronized ServerState takeLegacyServerState() {
+        ConfigurationSection section = getConfig().getConfigurationSection("server-state");
+        if (section == null) {
+            return null;
+        }
+
+        ServerState legacy = ServerState.fromRemaining(
+            section.getBoolean("started", false),
+            section.getInt("beginning-timer-remaining", 0),
+            section.getInt("end-timer-remaining", 0));
+        getConfig().set("server-state", null);
+        markChanged("server-state");
+        return legacy;
+    }
+
+    // ========== Beginning Timer Config ==========
+
+    public String getBeginningTimerMotdFormat() {
+        return getBeginningTimerMotdTemplate().getSource();
+    }
+
+    public MessageTemplate getBeginningTimerMotdTemplate() {
+        return snapshot.beginningTimer().motdFormat();
+    }
+
+    public String getBeginningTimerKickMessage() {
+        return getBeginningTimerKickTemplate().getSource();
+    }
+
+    public MessageTemplate getBeginningTimerKickTemplate() {
+        return snapshot.beginningTimer().kickMessage();
+    }
+
+    public String getBeginningTimerCountdownMessage() {
+        return getBeginningTimerCountdownTemplate().getSource();
+    }
+
+    public MessageTemplate getBeginningTimerCountdownTemplate() {
+        return snapshot.beginningTimer().countdownMessage();
+    }
+
+    public boolean isDisableWhitelistOnEnd() {
+        return snapshot.beginningTimer().disableWhitelistOnEnd();
+    }
+
+    public List<String> getBeginningTimerBypassReservations() {
+        return snapshot.beginningTimer().bypassReservations();
+    }
+
+    public boolean isAdmissionEnabled() {
+        return snapshot.beginningTimer().admission().enabled();
+    }
+
+    public int getAdmissionLoginsPerSecond() {
+        return snapshot.beginningTimer().admission().loginsPerSecond();
+    }
+
+    public int getAdmissionBurst() {
+        return snapshot.beginningTimer().admission().burst();
+    }
+
+    public int getAdmissionDurationSeconds() {
+        return snapshot.beginningTimer().admission().durationSeconds();
+    }
+
+    public int getAdmissionQueueTimeoutSeconds() {
+        return snapshot.beginningTimer().admission().queueTimeoutSeconds();
+    }
+
+    public String getAdmissionKickMessage() {
+        return getAdmissionKickTemplate().getSource();
+    }
+
+    public MessageTemplate getAdmissionKickTemplate() {
+        return snapshot.beginningTimer().admission().kickMessage();
+    }
+
+    // ========== Restart Timer Config ==========
+
+    public String getRestartTimerMotdFormat() {
+        return getRestartTimerMotdTemplate().getSource();
+    }
+
+    public MessageTemplate getRestartTimerMotdTemplate() {
+        return snapshot.restartTimer().motdFormat();
+    }
+
+    public String getRestartTimerKickMessage() {
+        return getRestartTimerKickTemplate().getSource();
+    }
+
+    public MessageTemplate getRestartTimerKickTemplate() {
+        return snapshot.restartTimer().kickMessage();
+    }
+
+    public String getRestartTimerCountdownMessage() {
+        return getRestartTimerCountdownTemplate().getSource();
+    }
+
+    public MessageTemplate getRestartTimerCountdownTemplate() {
+        return snapshot.restartTimer().countdownMessage();
+    }
+
+    public boolean isKickAllOnRestart() {
+        return snapshot.restartTimer().kickAllOnEnd();
+    }
+
+    public String getRestartFinalKickMessage() {
+        return getRestartFinalKickTemplate().getSource();
+    }
+
+    public MessageTemplate getRestartFinalKickTemplate() {
+        return snapshot.restartTimer().finalKickMessage();
+    }
+
+    public int getRestartKickBatchSize() {
+        return snapshot.restartTimer().kickBatchSize();
+    }
+
+    public int getRestartKickBatchIntervalTicks() {
+        return snapshot.restartTimer().kickBatchIntervalTicks();
+    }
+
+    public int getRestartShutdownTimeoutSeconds() {
+        return snapshot.restartTimer().shutdownTimeoutSeconds();
+    }
+
+    public boolean isRestartDrainEnabled() {
+        return snapshot.restartTimer().drain().enabled();
+    }
+
+    public String getRestartDrainServer() {
+        return snapshot.restartTimer().drain().server();
+    }
+
+    public int getRestartDrainWindowSeconds() {
+        return snapshot.restartTimer().drain().windowSeconds();
+    }
+
+    public int getRestartDrainTimeoutSeconds() {
+        return snapshot.restartTimer().drain().timeoutSeconds();
+    }
+
+    // ========== End Timer Config (End Dimension) ==========
+
+    public String getEndTimerMotdFormat() {
+        return getEndTimerMotdTemplate().getSource();
+    }
+
+    public MessageTemplate getEndTimerMotdTemplate() {
+        return snapshot.endTimer().motdFormat();
+    }
+
+    public String getEndTimerCountdownMessage() {
+        return getEndTimerCountdownTemplate().getSource();
+    }
+
+    public MessageTemplate getEndTimerCountdownTemplate() {
+        return snapshot.endTimer().countdownMessage();
+    }
+
+    // ========== Timer Boss Bars ==========
+
+    public boolean isBossBarEnabled(String timerSection) {
+        return snapshot.bossBar(timerSection).enabled();
+    }
+
+    public BossBar.Color getBossBarColor(String timerSection) {
+        return snapshot.bossBar(timerSection).color();
+    }
+
+    public String getBossBarTitle(String timerSection) {
+        return getBossBarTitleTemplate(timerSection).getSource();
+    }
+
+    public MessageTemplate getBossBarTitleTemplate(String timerSection) {
+        return snapshot.bossBar(timerSection).title();
+    }
+
+    // ========== MOTD Config ==========
+
+    public String getMotdLine1() {
+        return snapshot.motd().line1();
+    }
+
+    public String getMotdLine2() {
+        return snapshot.motd().line2();
+    }
+
+    public boolean isMotdEnabled() {
+        return snapshot.motd().enabled();
+    }
+
+    public synchronized void saveMotdConfig(de.timing.motd.MotdConfig motdConfig) {
+        getConfig().set("motd.line1", motdConfig.getLine1());
+        getConfig().set("motd.line2", motdConfig.getLine2());
+        getConfig().set("motd.enabled", motdConfig.isEnabled());
+        markChanged("motd.line1");
+        markChanged("motd.line2");
+        markChanged("motd.enabled");
+        snapshot = ConfigSnapshot.load(getConfig(), snapshot);
+    }
+
+    // ========== Announcements Config ==========
+
+    public synchronized Map<String, Announcement> loadAnnouncements() {
+        return readAnnouncements(getConfig());
+    }
+
+    /**
+     * Read the announcements of a configuration that is not shared with other threads.
+     */
+    public static Map<String, Announcement> readAnnouncements(ConfigurationSection root) {
+        Map<String, Announcement> announcements = new HashMap<>();
+        ConfigurationSection section = root.getConfigurationSection("announcements");
+        
+        if (section == null) {
+            return announcements;
+        }
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection announcementSection = section.getConfigurationSection(key);
+            if (announcementSection == null) continue;
+
+            String message = announcementSection.getString("message", "");
+            String typeStr = announcementSection.getString("type", "ACTION_BAR");
+            AnnouncementType type;
+            try {
+                type = AnnouncementType.valueOf(typeStr.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                type = AnnouncementType.ACTION_BAR;
+            }
+
+            Announcement announcement = new Announcement(key, message, type);
+            announcement.setSubtitle(announcementSection.getString("subtitle", ""));
+            announcement.setFadeIn(announcementSection.getInt("fade-in", 10));
+            announcement.setStay(announcementSection.getInt("stay", 70));
+            announcement.setFadeOut(announcementSection.getInt("fade-out", 20));
+            announcement.setInterval(announcementSection.getInt("interval", 0));
+            announcement.setJitter(announcementSection.getInt("jitter", 0));
+            announcement.setPriority(announcementSection.getInt("priority", 0));
+            announcement.setEnabled(announcementSection.getBoolean("enabled", true));
+            try {
+                announcement.setTargetType(TargetType.valueOf(announcementSection.getString("target-type", "ALL").toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                announcement.setTargetType(TargetType.ALL);
+            }
+            announcement.setTarget(announcementSection.getString("target", ""));
+
+            ConfigurationSection locales = announcementSection.getConfigurationSection("locales");
+            if (locales != null) {
+                for (String locale : locales.getKeys(false)) {
+                    String localizedMessage = locales.getString(locale + ".message");
+                    if (localizedMessage == null) continue;
+                    announcement.getLocalizedMessages().put(locale, localizedMessage);
+                    String localizedSubtitle = locales.getString(locale + ".subtitle");
+                    if (localizedSubtitle != null) {
+                        announcement.getLocalizedSubtitles().put(locale, localizedSubtitle);
+                    }
+                }
+            }
+
+            announcements.put(key, announcement);
+        }
+
+        return announcements;
+    }
+
+    public synchronized void saveAnnouncement(Announcement announcement) {
+        String path = "announcements." + announcement.getName();
+        FileConfiguration config = getConfig();
+
+        config.set(path + ".message", announcement.getMessage());
+        config.set(path + ".type", announcement.getType().name());
+        config.set(path + ".subtitle", announcement.getSubtitle());
+        config.set(path + ".fade-in", announcement.getFadeIn());
+        config.set(path + ".stay", announcement.getStay());
+        config.set(path + ".fade-out", announcement.getFadeOut());
+        config.set(path + ".interval", announcement.getInterval());
+        config.set(path + ".jitter", announcement.getJitter());
+        config.set(path + ".priority", announcement.getPriority());
+        config.set(path + ".enabled", announcement.isEnabled());
+        config.set(path + ".target-type", announcement.getTargetType().name());
+        config.set(path + ".target", announcement.getTarget());
+        config.set(path + ".locales", null);
+        for (Map.Entry<String, String> entry : announcement.getLocalizedMessages().entrySet()) {
+            config.set(path + ".locales." + entry.getKey() + ".message", entry.getValue());
+            String localizedSubtitle = announcement.getLocalizedSubtitles().get(entry.getKey());
+            if (localizedSubtitle != null) {
+                config.set(path + ".locales." + entry.getKey() + ".subtitle", localizedSubtitle);
+            }
+        }
+
+        markChanged(path);
+    }
+
+    public synchronized void deleteAnnouncement(String name) {
+        getConfig().set("announcements." + name, null);
+        markChanged("announcements." + name);
+    }
+
+    // ========== Announcement Groups Config ==========
+
+    public synchronized Map<String, AnnouncementGroup> loadAnnouncementGroups() {
+        return readAnnouncementGroups(getConfig());
+    }
+
+    /**
+     * Read the announcement groups of a configuration that is not shared with other threads.
+     */
+    public static Map<String, AnnouncementGroup> readAnnouncementGroups(ConfigurationSection root) {
+        Map<String, AnnouncementGroup> groups = new HashMap<>();
+        ConfigurationSection section = root.getConfigurationSection("announcement-groups");
+
+        if (section == null) {
+            return groups;
+        }
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection groupSection = section.getConfigurationSection(key);
+            if (groupSection == null) continue;
+
+            RotationMode mode;
+            try {
+                mode = RotationMode.valueOf(groupSection.getString("mode", "SEQUENTIAL").toUpperCase());
+            } catch (IllegalArgumentException e) {
+                mode = RotationMode.SEQUENTIAL;
+            }
+
+            AnnouncementGroup group = new AnnouncementGroup(key, mode);
+            for (String member : groupSection.getStringList("members")) {
+                group.addMember(member);
+            }
+            ConfigurationSection weights = groupSection.getConfigurationSection("weights");
+            if (weights != null) {
+                for (String member : weights.getKeys(false)) {
+                    group.setWeight(member, weights.getInt(member, 1));
+                }
+            }
+            group.setInterval(groupSection.getInt("interval", 300));
+            group.setEnabled(groupSection.getBoolean("enabled", true));
+
+            groups.put(key, group);
+        }
+
+        return groups;
+    }
+
+    public synchronized void saveAnnouncementGroup(AnnouncementGroup group) {
+        String path = "announcement-groups." + group.getName();
+        FileConfiguration config = getConfig();
+
+        config.set(path, null);
+        config.set(path + ".mode", group.getMode().name());
+        config.set(path + ".members", new ArrayList<>(group.getMembers()));
+        for (String member : group.getMembers()) {
+            if (group.getWeight(member) != 1) {
+                config.set(path + ".weights." + member, group.getWeight(member));
+            }
+        }
+        config.set(path + ".interval", group.getInterval());
+        config.set(path + ".enabled", group.isEnabled());
+
+        markChanged(path);
+    }
+
+    public synchronized void deleteAnnouncementGroup(String name) {
+        getConfig().set("announcement-groups." + name, null);
+        markChanged("announcement-groups." + name);
+    }
+
+    /**
+     * In-game edits captured for re-applying on top of a reloaded file.
+     *
+     * @param changeCount Number of in-game changes made when they were captured
+     * @param values      Path to value (a plain map for sections, null for removed paths)
+     */
+    public record PendingEdits(long changeCount, Map<String, Object> values) {
+    }
+}
@@ -0,0 +1,205 @@
+package de.timing.config;
+
+import de.timing.util.MessageTemplate;
+import net.kyori.adventure.bossbar.BossBar;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable, typed view of config.yml, read once per (re)load.
+ * Message strings are compiled into templates while loading, so ping,
+ * login and tick paths only dereference fields instead of walking the
+ * YAML tree by path. Runtime state (server-state, announcements) is not
+ * part of the snapshot.
+ */
+public record ConfigSnapshot(boolean debug,
+                             boolean hotReload,
+                             Delivery delivery,
+                             TimerCheckpoint timerCheckpoint,
+                             BeginningTimer beginningTimer,
+                             RestartTimer restartTimer,
+                             EndTimer endTimer,
+                             Motd motd) {
+
+    /**
+     * Read and compile every setting from the given configuration.
+     */
+    public static ConfigSnapshot load(FileConfiguration config) {
+        return load(config, null);
+    }
+
+    /**
+     * Read every setting from the given configuration. Templates whose text
+     * did not change are taken over from the previous snapshot instead of
+     * being compiled again.
+     */
+    public static ConfigSnapshot load(FileConfiguration config, ConfigSnapshot previous) {
+        Map<String, MessageTemplate> reusable = new HashMap<>();
+        if (previous != null) {
+            for (MessageTemplate template : previous.templates()) {
+                reusable.put(template.getSource(), template);
+            }
+        }
+        Function<String, MessageTemplate> compiler = source -> {
+            MessageTemplate template = reusable.get(source);
+            return template != null ? template : MessageTemplate.compile(source);
+        };
+
+        Delivery delivery = new Delivery(
+                Math.max(0, config.getInt("delivery.action-bar-hold-ticks", 40)),
+                Math.max(0, config.getInt("delivery.max-defer-ticks", 100)));
+
+        TimerCheckpoint timerCheckpoint = new TimerCheckpoint(
+                Math.max(0, config.getInt("timer-checkpoint.interval-seconds", 5)),
+                config.getBoolean("timer-checkpoint.subtract-downtime", true));
+
+        BeginningTimer beginningTimer = new BeginningTimer(
+                template(config, compiler, "beginning-timer.motd-format",
+                        "<red><bold>Server Starting</bold></red>\n<yellow>Starting in: <white>{time}</white></yellow>"),
+                template(config, compiler, "beginning-timer.kick-message",
+                        "<red><bold>Server is Starting!</bold></red>\n\n<yellow>The server will open in <white>{time}</white></yellow>"),
+                template(config, compiler, "beginning-timer.countdown-message",
+                        "<gray>[<gradient:gold:yellow>Timing</gradient>]</gray> <yellow>Server starting in <white>{time}</white></yellow>"),
+                config.getBoolean("beginning-timer.disable-whitelist-on-end", true),
+                List.copyOf(config.getStringList("beginning-timer.bypass-reservations")),
+                new Admission(
+                        config.getBoolean("beginning-timer.admission.enabled", false),
+                        config.getInt("beginning-timer.admission.logins-per-second", 20),
+                        config.getInt("beginning-timer.admission.burst", 40),
+                        config.getInt("beginning-timer.admission.duration-seconds", 300),
+                        config.getInt("beginning-timer.admission.queue-timeout-seconds", 60),
+                        template(config, compiler, "beginning-timer.admission.kick-message",
+                                "<yellow><bold>The server is opening!</bold></yellow>\n\n<gray>You are <white>#{position}</white> in the queue.</gray>\n<gray>Please retry in <white>{time}</white>.</gray>")),
+                bossBar(config, compiler, "beginning-timer"));
+
+        RestartTimer restartTimer = new RestartTimer(
+                template(config, compiler, "restart-timer.motd-format",
+                        "<red><bold>Server Restarting</bold></red>\n<yellow>Stopping in: <white>{time}</white></yellow>"),
+                template(config, compiler, "restart-timer.kick-message",
+                        "<red><bold>Server is Stopping!</bold></red>\n\n<yellow>The server will stop in <white>{time}</white></yellow>"),
+                template(config, compiler, "restart-timer.countdown-message",
+                        "<gray>[<gradient:gold:yellow>Timing</gradient>]</gray> <yellow>Server restarting in <white>{time}</white></yellow>"),
+                config.getBoolean("restart-timer.kick-all-on-end", true),
+                template(config, compiler, "restart-timer.final-kick-message",
+                        "<red><bold>Server Stopped</bold></red>\n\n<gray>Please reconnect shortly!</gray>"),
+                config.getInt("restart-timer.kick-batch-size", 50),
+                config.getInt("restart-timer.kick-batch-interval-ticks", 2),
+                config.getInt("restart-timer.shutdown-timeout-seconds", 10),
+                new Drain(
+                        config.getBoolean("restart-timer.drain.enabled", false),
+                        config.getString("restart-timer.drain.server", "lobby"),
+                        config.getInt("restart-timer.drain.window-seconds", 10),
+                        config.getInt("restart-timer.drain.timeout-seconds", 30)),
+                bossBar(config, compiler, "restart-timer"));
+
+        EndTimer endTimer = new EndTimer(
+                template(config, compiler, "end-timer.motd-format",
+                        "<light_purple><bold>The End</bold></light_purple>\n<yellow>Opens in: <white>{time}</white></yellow>"),
+                template(config, compiler, "end-timer.countdown-message",
+                        "<gray>[<gradient:gold:yellow>Timing</gradient>]</gray> <light_purple>The End</light_purple> opens in <white>{time}</white>"),
+                bossBar(config, compiler, "end-timer"));
+
+        Motd motd = new Motd(
+                config.getBoolean("motd.enabled", true),
+                config.getString("motd.line1", "<gradient:gold:yellow><bold>My Server</bold></gradient>"),
+                config.getString("motd.line2", "<gray>Welcome to the server!</gray>"));
+
+        return new ConfigSnapshot(config.getBoolean("debug", false), config.getBoolean("hot-reload", true),
+                delivery, timerCheckpoint, beginningTimer, restartTimer, endTimer, motd);
+    }
+
+    /**
+     * Get the boss bar settings of a timer by its config section name.
+     */
+    public BossBarSettings bossBar(String timerSection) {
+        return switch (timerSection) {
+            case "beginning-timer" -> beginningTimer.bossBar();
+            case "restart-timer" -> restartTimer.bossBar();
+            case "end-timer" -> endTimer.bossBar();
+            default -> BossBarSettings.DISABLED;
+        };
+    }
+
+    private List<MessageTemplate> templates() {
+        return List.of(
+                beginningTimer.motdFormat(), beginningTimer.kickMessage(), beginningTimer.countdownMessage(),
+                beginningTimer.admission().kickMessage(), beginningTimer.bossBar().title(),
+                restartTimer.motdFormat(), restartTimer.kickMessage(), restartTimer.countdownMessage(),
+                restartTimer.finalKickMessage(), restartTimer.bossBar().title(),
+                endTimer.motdFormat(), endTimer.countdownMessage(), endTimer.bossBar().title());
+    }
+
+    private static MessageTemplate template(FileConfiguration config, Function<String, MessageTemplate> compiler,
+            String path, String def) {
+        return compiler.apply(config.getString(path, def));
+    }
+
+    private static BossBarSettings bossBar(FileConfiguration config, Function<String, MessageTemplate> compiler,
+            String timerSection) {
+        String path = timerSection + ".boss-bar.";
+        BossBar.Color color;
+        try {
+            color = BossBar.Color.valueOf(config.getString(path + "color", "WHITE").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            color = BossBar.Color.WHITE;
+        }
+        return new BossBarSettings(config.getBoolean(path + "enabled", false), color,
+                template(config, compiler, path + "title", "<yellow>{time}</yellow>"));
+    }
+
+    public record Delivery(int actionBarHoldTicks, int maxDeferTicks) {
+    }
+
+    public record TimerCheckpoint(int intervalSeconds, boolean subtractDowntime) {
+    }
+
+    public record BeginningTimer(MessageTemplate motdFormat,
+                                 MessageTemplate kickMessage,
+                                 MessageTemplate countdownMessage,
+                                 boolean disableWhitelistOnEnd,
+                                 List<String> bypassReservations,
+                                 Admission admission,
+                                 BossBarSettings bossBar) {
+    }
+
+    public record Admission(boolean enabled,
+                            int loginsPerSecond,
+                            int burst,
+                            int durationSeconds,
+                            int queueTimeoutSeconds,
+                            MessageTemplate kickMessage) {
+    }
+
+    public record RestartTimer(MessageTemplate motdFormat,
+                               MessageTemplate kickMessage,
+                               MessageTemplate countdownMessage,
+                               boolean kickAllOnEnd,
+                               MessageTemplate finalKickMessage,
+                               int kickBatchSize,
+                               int kickBatchIntervalTicks,
+                               int shutdownTimeoutSeconds,
+                               Drain drain,
+                               BossBarSettings bossBar) {
+    }
+
+    public record Drain(boolean enabled, String server, int windowSeconds, int timeoutSeconds) {
+    }
+
+    public record EndTimer(MessageTemplate motdFormat,
+                           MessageTemplate countdownMessage,
+                           BossBarSettings bossBar) {
+    }
+
+    public record BossBarSettings(boolean enabled, BossBar.Color color, MessageTemplate title) {
+
+        static final BossBarSettings DISABLED = new BossBarSettings(false, BossBar.Color.WHITE,
+                MessageTemplate.compile("<yellow>{time}</yellow>"));
+    }
+
+    public record Motd(boolean enabled, String line1, String line2) {
+    }
+}
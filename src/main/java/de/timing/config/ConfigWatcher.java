@@ -0,0 +1,202 @@
+package de.timing.config;
+
+import de.timing.Timing;
+import de.timing.announcer.Announcement;
+import de.timing.announcer.AnnouncementGroup;
+import de.timing.util.FilePersister;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Reloads config.yml when it is edited on disk.
+ * A background thread watches the data folder and waits until the file has
+ * been quiet for a moment, so an editor's save burst triggers one reload.
+ * The file is parsed and compiled on that thread, and only what changed is
+ * applied: changed announcements are rescheduled, unchanged templates are
+ * reused, so even a large catalog does not stall the global region thread.
+ * The plugin's own writes are recognized by their checksum and ignored.
+ * In-game changes that are still waiting to be written never overwrite the
+ * edited file: the file is loaded and only the paths changed in game are
+ * re-applied on top of it, like a manual reload does.
+ */
+public class ConfigWatcher {
+
+    private static final String FILE_NAME = "config.yml";
+    private static final long DEBOUNCE_MILLIS = 500L;
+    private static final int MAX_MERGE_ATTEMPTS = 10;
+
+    private final Timing plugin;
+    private final Path folder;
+    private final Path file;
+    private WatchService watchService;
+    private long lastAppliedChecksum;
+
+    public ConfigWatcher(Timing plugin) {
+        this.plugin = plugin;
+        this.folder = plugin.getDataFolder().toPath();
+        this.file = folder.resolve(FILE_NAME);
+    }
+
+    /**
+     * Start watching. Failures only disable hot reload.
+     */
+    public synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+
+        WatchService service;
+        try {
+            service = folder.getFileSystem().newWatchService();
+            folder.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            lastAppliedChecksum = FilePersister.checksum(Files.readAllBytes(file));
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not watch " + FILE_NAME + ", hot reload disabled", e);
+            return;
+        }
+
+        watchService = service;
+        Thread.ofVirtual().name("timing-config-watcher").start(() -> watch(service));
+    }
+
+    public synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not close the config watcher", e);
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                boolean relevant = drain(service.take());
+                // Debounce: keep collecting until the folder is quiet
+                WatchKey next;
+                while ((next = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(next);
+                }
+                if (relevant) {
+                    reloadIfChanged();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private void reloadIfChanged() {
+        FilePersister persister = plugin.getConfigManager().getPersister();
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not read " + FILE_NAME, e);
+            return;
+        }
+
+        long checksum = FilePersister.checksum(content);
+        if (checksum == lastAppliedChecksum
+                || checksum == persister.getLastWrittenChecksum()) {
+            lastAppliedChecksum = checksum; // Unchanged, or written by the plugin itself
+            return;
+        }
+
+        String source = new String(content, StandardCharsets.UTF_8);
+        try {
+            new YamlConfiguration().loadFromString(source);
+        } catch (InvalidConfigurationException e) {
+            plugin.getLogger().warning(FILE_NAME + " has errors, keeping the current configuration: "
+                    + e.getMessage());
+            return;
+        }
+        lastAppliedChecksum = checksum;
+
+        try {
+            apply(source, checksum);
+        } catch (RuntimeException | InvalidConfigurationException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to apply changes to " + FILE_NAME, e);
+        }
+    }
+
+    /**
+     * Merge the pending in-game edits into the file's content and publish the
+     * result. An in-game change made while merging invalidates the result, so
+     * the merge is retried with the fresh edits.
+     */
+    private void apply(String source, long checksum) throws InvalidConfigurationException {
+        long start = System.nanoTime();
+        ConfigManager configManager = plugin.getConfigManager();
+        ConfigSnapshot previous = configManager.getSnapshot();
+
+        for (int attempt = 1; attempt <= MAX_MERGE_ATTEMPTS; attempt++) {
+            YamlConfiguration parsed = new YamlConfiguration();
+            parsed.loadFromString(source);
+            ConfigManager.PendingEdits edits = configManager.capturePendingEdits();
+            ConfigManager.applyEdits(parsed, edits);
+
+            ConfigSnapshot next = ConfigSnapshot.load(parsed, previous);
+            Map<String, Announcement> announcements = ConfigManager.readAnnouncements(parsed);
+            Map<String, AnnouncementGroup> groups = ConfigManager.readAnnouncementGroups(parsed);
+            if (configManager.replace(parsed, next, edits, checksum)) {
+                publish(previous, next, announcements, groups, start);
+                return;
+            }
+        }
+        plugin.getLogger().warning("Skipped reloading " + FILE_NAME
+                + ": it kept being changed in game while it was merged; use a manual reload");
+    }
+
+    /**
+     * Apply what changed. The announcement catalog is swapped here; work that
+     * touches players or the server list runs on the global region thread.
+     */
+    private void publish(ConfigSnapshot previous, ConfigSnapshot next, Map<String, Announcement> announcements,
+            Map<String, AnnouncementGroup> groups, long start) {
+        plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+            if (!next.motd().equals(previous.motd())) {
+                plugin.getMotdManager().reload();
+            } else {
+                plugin.getMotdManager().refreshServerListState();
+            }
+        });
+        if (!next.beginningTimer().bypassReservations().equals(previous.beginningTimer().bypassReservations())) {
+            plugin.getBeginningTimerManager().getBypassIndex().requestRebuild();
+        }
+        int changes = plugin.getAnnouncerManager().applyChanges(announcements, groups);
+
+        plugin.getLogger().info("Reloaded " + FILE_NAME + " (" + changes + " announcements/groups changed) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+}
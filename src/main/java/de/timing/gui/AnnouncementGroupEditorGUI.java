@@ -0,0 +1,185 @@
+package de.timing.gui;
+
+import de.timing.Timing;
+import de.timing.announcer.Announcement;
+import de.timing.announcer.AnnouncementGroup;
+import de.timing.announcer.RotationMode;
+import de.timing.util.MessageUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GUI for editing an announcement group: members, weights, mode and interval.
+ */
+public class AnnouncementGroupEditorGUI implements GUI {
+
+    private final Timing plugin;
+    private final Inventory inventory;
+    private final AnnouncementGroup group;
+    private final boolean isNew;
+    private final List<String> announcementNames;
+
+    // Announcement slots (rows 1-4)
+    private static final int MAX_ANNOUNCEMENTS = 36;
+
+    // Control slots (bottom row)
+    private static final int MODE_SLOT = 46;
+    private static final int INTERVAL_SLOT = 48;
+    private static final int SAVE_SLOT = 50;
+    private static final int CANCEL_SLOT = 52;
+
+    public AnnouncementGroupEditorGUI(Timing plugin, AnnouncementGroup group, boolean isNew) {
+        this.plugin = plugin;
+        this.group = group;
+        this.isNew = isNew;
+        this.announcementNames = new ArrayList<>();
+        this.inventory = Bukkit.createInventory(null, 54,
+            MessageUtil.parse("<gradient:gold:yellow>Edit Group: " + group.getName() + "</gradient>"));
+        setupInventory();
+    }
+
+    private void setupInventory() {
+        inventory.clear();
+        announcementNames.clear();
+
+        List<String> names = new ArrayList<>(plugin.getAnnouncerManager().getAnnouncements().keySet());
+        names.sort(String::compareTo);
+
+        int slot = 0;
+        for (String name : names) {
+            if (slot >= MAX_ANNOUNCEMENTS) break;
+
+            Announcement announcement = plugin.getAnnouncerManager().getAnnouncement(name);
+            if (announcement == null) continue;
+            announcementNames.add(name);
+
+            boolean member = group.isMember(name);
+            String weightLine = group.getMode() == RotationMode.WEIGHTED && member
+                ? "<gray>Weight: <white>" + group.getWeight(name) + "</white></gray>"
+                : null;
+
+            inventory.setItem(slot, GUIManager.createItem(
+                member ? Material.PAPER : Material.GRAY_DYE,
+                (member ? "<green>" : "<gray>") + name + (member ? "</green>" : "</gray>"),
+                member ? "<gray>Position: <white>" + (group.getMembers().indexOf(name) + 1) + "</white></gray>" : "<gray>Not in group</gray>",
+                weightLine,
+                "",
+                "<green>Left-click</green> <gray>to add/remove</gray>",
+                "<yellow>Right-click</yellow> <gray>to increase weight</gray>",
+                "<red>Shift-click</red> <gray>to decrease weight</gray>"
+            ));
+            slot++;
+        }
+
+        // Mode selector
+        inventory.setItem(MODE_SLOT, GUIManager.createItem(
+            Material.COMPARATOR,
+            "<yellow>Rotation Mode</yellow>",
+            "<gray>Current: <white>" + group.getMode().name() + "</white></gray>",
+            "",
+            "<green>Click</green> <gray>to cycle</gray>"
+        ));
+
+        // Interval setting
+        inventory.setItem(INTERVAL_SLOT, GUIManager.createItem(
+            Material.CLOCK,
+            "<yellow>Group Interval</yellow>",
+            "<gray>Current: <white>" + (group.getInterval() == 0 ? "Manual only" : group.getInterval() + "s") + "</white></gray>",
+            "",
+            "<green>Left-click</green> <gray>to increase</gray>",
+            "<red>Right-click</red> <gray>to decrease</gray>",
+            "<yellow>Shift-click</yellow> <gray>for larger steps</gray>"
+        ));
+
+        // Save button
+        inventory.setItem(SAVE_SLOT, GUIManager.createItem(
+            Material.LIME_WOOL,
+            "<green>Save</green>",
+            "<gray>Save this group</gray>"
+        ));
+
+        // Cancel button
+        inventory.setItem(CANCEL_SLOT, GUIManager.createItem(
+            Material.RED_WOOL,
+            "<red>Cancel</red>",
+            "<gray>Discard changes</gray>"
+        ));
+
+        GUIManager.fillEmpty(inventory);
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    @Override
+    public void onClick(Player player, int slot, ItemStack item, boolean shiftClick, boolean rightClick) {
+        if (item == null || item.getType() == Material.GRAY_STAINED_GLASS_PANE) {
+            return;
+        }
+
+        // Member slots
+        if (slot < announcementNames.size()) {
+            String name = announcementNames.get(slot);
+
+            if (shiftClick) {
+                if (group.isMember(name)) {
+                    group.setWeight(name, group.getWeight(name) - 1);
+                }
+            } else if (rightClick) {
+                if (group.isMember(name)) {
+                    group.setWeight(name, group.getWeight(name) + 1);
+                }
+            } else if (group.isMember(name)) {
+                group.removeMember(name);
+            } else {
+                group.addMember(name);
+            }
+            setupInventory();
+            return;
+        }
+
+        // Cycle mode
+        if (slot == MODE_SLOT) {
+            RotationMode[] modes = RotationMode.values();
+            group.setMode(modes[(group.getMode().ordinal() + 1) % modes.length]);
+            setupInventory();
+            return;
+        }
+
+        // Interval
+        if (slot == INTERVAL_SLOT) {
+            int delta = shiftClick ? 60 : 10;
+            if (rightClick) delta = -delta;
+
+            group.setInterval(Math.max(0, group.getInterval() + delta));
+            setupInventory();
+            return;
+        }
+
+        // Save
+        if (slot == SAVE_SLOT) {
+            plugin.getAnnouncerManager().saveGroup(group);
+            player.sendMessage(MessageUtil.success("Group <yellow>" + group.getName() + "</yellow> saved!"));
+            plugin.getGuiManager().openGUI(player, new AnnouncementGroupsGUI(plugin));
+            return;
+        }
+
+        // Cancel
+        if (slot == CANCEL_SLOT) {
+            if (isNew) {
+                player.sendMessage(MessageUtil.info("Group creation cancelled."));
+            } else {
+                player.sendMessage(MessageUtil.info("Changes discarded."));
+            }
+            plugin.getGuiManager().openGUI(player, new AnnouncementGroupsGUI(plugin));
+        }
+    }
+}
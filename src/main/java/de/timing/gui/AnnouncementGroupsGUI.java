@@ -0,0 +1,146 @@
+package de.timing.gui;
+
+import de.timing.Timing;
+import de.timing.announcer.AnnouncementGroup;
+import de.timing.util.MessageUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GUI showing the list of announcement groups.
+ */
+public class AnnouncementGroupsGUI implements GUI {
+
+    private final Timing plugin;
+    private final Inventory inventory;
+    private final List<String> groupNames;
+
+    private static final int BACK_SLOT = 45;
+    private static final int CREATE_SLOT = 49; // Bottom center
+
+    public AnnouncementGroupsGUI(Timing plugin) {
+        this.plugin = plugin;
+        this.inventory = Bukkit.createInventory(null, 54, MessageUtil.parse("<gradient:gold:yellow>Announcement Groups</gradient>"));
+        this.groupNames = new ArrayList<>();
+        setupInventory();
+    }
+
+    private void setupInventory() {
+        inventory.clear();
+        groupNames.clear();
+
+        Map<String, AnnouncementGroup> groups = plugin.getAnnouncerManager().getGroups();
+
+        int slot = 0;
+        for (Map.Entry<String, AnnouncementGroup> entry : groups.entrySet()) {
+            if (slot >= 45) break; // Leave bottom row for controls
+
+            AnnouncementGroup group = entry.getValue();
+            groupNames.add(entry.getKey());
+
+            Material material = group.isEnabled() ? Material.BOOK : Material.GRAY_DYE;
+            String status = group.isEnabled() ? "<green>Enabled</green>" : "<red>Disabled</red>";
+
+            ItemStack item = GUIManager.createItem(
+                material,
+                "<yellow>" + group.getName() + "</yellow>",
+                "<gray>Mode: <white>" + group.getMode().name() + "</white></gray>",
+                "<gray>Members: <white>" + group.getMembers().size() + "</white></gray>",
+                "<gray>Interval: <white>" + group.getInterval() + "s</white></gray>",
+                "<gray>Status: " + status + "</gray>",
+                "",
+                "<green>Left-click</green> <gray>to edit</gray>",
+                "<yellow>Right-click</yellow> <gray>to toggle</gray>",
+                "<red>Shift-click</red> <gray>to delete</gray>"
+            );
+
+            inventory.setItem(slot, item);
+            slot++;
+        }
+
+        inventory.setItem(BACK_SLOT, GUIManager.createItem(
+            Material.ARROW,
+            "<yellow>Back</yellow>",
+            "<gray>Return to announcements</gray>"
+        ));
+
+        inventory.setItem(CREATE_SLOT, GUIManager.createItem(
+            Material.LIME_DYE,
+            "<green>Create New Group</green>",
+            "<gray>Click to create a new group</gray>"
+        ));
+
+        // Fill empty slots on bottom row
+        ItemStack filler = GUIManager.createFiller();
+        for (int i = 45; i < 54; i++) {
+            if (inventory.getItem(i) == null) {
+                inventory.setItem(i, filler);
+            }
+        }
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    @Override
+    public void onClick(Player player, int slot, ItemStack item, boolean shiftClick, boolean rightClick) {
+        if (item == null || item.getType() == Material.GRAY_STAINED_GLASS_PANE) {
+            return;
+        }
+
+        if (slot == BACK_SLOT) {
+            plugin.getGuiManager().openGUI(player, new AnnouncerGUI(plugin));
+            return;
+        }
+
+        // Create new group
+        if (slot == CREATE_SLOT) {
+            ChatInputListener.startInput(player, "group_name", input -> {
+                String name = input.replace(" ", "_").replace(":", "_").toLowerCase();
+                AnnouncementGroup newGroup = plugin.getAnnouncerManager().createNewGroup(name);
+
+                player.getScheduler().run(plugin, task -> {
+                    plugin.getGuiManager().openGUI(player, new AnnouncementGroupEditorGUI(plugin, newGroup, true));
+                }, null);
+            });
+
+            player.closeInventory();
+            player.sendMessage(MessageUtil.info("Enter a name for the new group:"));
+            return;
+        }
+
+        // Handle group slot
+        if (slot < groupNames.size()) {
+            String name = groupNames.get(slot);
+            AnnouncementGroup group = plugin.getAnnouncerManager().getGroup(name);
+
+            if (group == null) {
+                return;
+            }
+
+            if (shiftClick) {
+                plugin.getAnnouncerManager().deleteGroup(name);
+                player.sendMessage(MessageUtil.success("Group <yellow>" + name + "</yellow> deleted!"));
+                setupInventory();
+            } else if (rightClick) {
+                AnnouncementGroup toggled = group.copy();
+                toggled.setEnabled(!toggled.isEnabled());
+                plugin.getAnnouncerManager().saveGroup(toggled);
+                player.sendMessage(MessageUtil.success("Group <yellow>" + name + "</yellow> " +
+                    (toggled.isEnabled() ? "<green>enabled</green>" : "<red>disabled</red>") + "!"));
+                setupInventory();
+            } else {
+                plugin.getGuiManager().openGUI(player, new AnnouncementGroupEditorGUI(plugin, group.copy(), false));
+            }
+        }
+    }
+}
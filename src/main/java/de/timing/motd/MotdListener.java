@@ -1,36 +1,44 @@
-package de.timing.motd;
-
-import de.timing.Timing;
-import com.destroystokyo.paper.event.server.PaperServerListPingEvent;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import net.kyori.adventure.text.Component;
-
-/**
- * Listener for MOTD events.
- * Shows default MOTD when no timer is overriding.
- */
-public class MotdListener implements Listener {
-
-    private final Timing plugin;
-
-    public MotdListener(Timing plugin) {
-        this.plugin = plugin;
-    }
-
-    /**
-     * Set default MOTD (lowest priority - timers override this).
-     */
-    @EventHandler(priority = EventPriority.LOW)
-    public void onServerListPing(PaperServerListPingEvent event) {
-        if (!plugin.getMotdManager().shouldShowDefaultMotd()) {
-            return;
-        }
-
-        Component motd = plugin.getMotdManager().getMotd();
-        if (motd != null) {
-            event.motd(motd);
-        }
-    }
-}
+package de.timing.motd;
+
+import de.timing.Timing;
+import com.destroystokyo.paper.event.server.PaperServerListPingEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Listener for MOTD events.
+ * Shows the precomputed server list state. The custom MOTD is applied early
+ * so other plugins can still override it; timer MOTDs are applied last.
+ */
+public class MotdListener implements Listener {
+
+    private final Timing plugin;
+
+    public MotdListener(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Set the custom MOTD (low priority - other plugins and timers override this).
+     * No parsing or config lookups happen here.
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onServerListPing(PaperServerListPingEvent event) {
+        ServerListState state = plugin.getMotdManager().getServerListState();
+        if (!state.timerMotd() && state.motd() != null) {
+            event.motd(state.motd());
+        }
+    }
+
+    /**
+     * Set the MOTD of a running timer (highest priority, as before).
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onTimerServerListPing(PaperServerListPingEvent event) {
+        ServerListState state = plugin.getMotdManager().getServerListState();
+        if (state.timerMotd() && state.motd() != null) {
+            event.motd(state.motd());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package de.timing.motd;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Immutable snapshot of what the server list should show.
+ * Built once per timer tick (and on timer/config changes) so ping handlers
+ * only have to read a single reference.
+ *
+ * @param motd      the winning MOTD, or null to leave the server default untouched
+ * @param timerMotd whether the MOTD comes from a running timer (and should override other plugins)
+ */
+public record ServerListState(Component motd, boolean timerMotd) {
+
+    public static final ServerListState EMPTY = new ServerListState(null, false);
+}
@@ -0,0 +1,62 @@
+package de.timing.state;
+
+/**
+ * Immutable runtime state that survives restarts and crashes.
+ * Timer deadlines are absolute wall-clock times (epoch millis, 0 = not running),
+ * so they stay meaningful across a restart.
+ *
+ * @param started                Whether the server has been opened
+ * @param beginningTimerDeadline When the beginning timer ends
+ * @param restartTimerDeadline   When the restart timer ends
+ * @param endTimerDeadline       When the end timer ends
+ * @param checkpointTime         When the deadlines were last recorded
+ */
+public record ServerState(boolean started,
+                          long beginningTimerDeadline,
+                          long restartTimerDeadline,
+                          long endTimerDeadline,
+                          long checkpointTime) {
+
+    public static final ServerState DEFAULT = new ServerState(false, 0L, 0L, 0L, 0L);
+
+    /**
+     * Build a state from remaining seconds, as stored by older versions.
+     * The deadlines are set relative to now, so the full remainder is kept.
+     */
+    public static ServerState fromRemaining(boolean started, int beginningSeconds, int endSeconds) {
+        long now = System.currentTimeMillis();
+        return new ServerState(started, deadline(now, beginningSeconds), 0L, deadline(now, endSeconds), now);
+    }
+
+    public ServerState withStarted(boolean started) {
+        return new ServerState(started, beginningTimerDeadline, restartTimerDeadline, endTimerDeadline, checkpointTime);
+    }
+
+    public ServerState withTimerDeadlines(long beginning, long restart, long end, long checkpointTime) {
+        return new ServerState(started, beginning, restart, end, checkpointTime);
+    }
+
+    public boolean hasTimerDeadlines() {
+        return beginningTimerDeadline != 0L || restartTimerDeadline != 0L || endTimerDeadline != 0L;
+    }
+
+    /**
+     * Get the seconds a timer has left.
+     *
+     * @param deadline         One of the deadlines of this state
+     * @param subtractDowntime Count time since the last checkpoint as elapsed
+     * @return Remaining seconds, rounded up (0 if it has passed), or -1 if the timer was not running
+     */
+    public int getRemainingSeconds(long deadline, boolean subtractDowntime) {
+        if (deadline == 0L) {
+            return -1;
+        }
+        long base = subtractDowntime ? System.currentTimeMillis() : checkpointTime;
+        long left = deadline - base;
+        return left <= 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, (left + 999) / 1000);
+    }
+
+    private static long deadline(long now, int seconds) {
+        return seconds > 0 ? now + seconds * 1000L : 0L;
+    }
+}
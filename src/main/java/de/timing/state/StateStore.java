@@ -0,0 +1,167 @@
+package de.timing.state;
+
+import de.timing.Timing;
+import de.timing.util.FilePersister;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * Small binary store for runtime state, kept apart from the admin-edited
+ * config.yml so state changes never rewrite (and strip the comments of)
+ * the config, and a config reload never clobbers live state.
+ * <p>
+ * File layout: magic "TMST", format version (short), payload length (int),
+ * payload, CRC32 of the payload (int). Version 1 stored remaining seconds,
+ * version 2 absolute timer deadlines; version 1 files are still read. Written behind and atomically by a
+ * {@link FilePersister}. On first start the old server-state section of
+ * config.yml is migrated into the store and removed from the config.
+ */
+public class StateStore {
+
+    private static final String FILE_NAME = "state.dat";
+    private static final int MAGIC = 0x544D5354; // "TMST"
+    private static final short VERSION = 2;
+    private static final int MAX_PAYLOAD = 64 * 1024;
+
+    private final Timing plugin;
+    private final Path file;
+    private final FilePersister persister;
+    private volatile ServerState state;
+
+    public StateStore(Timing plugin) {
+        this.plugin = plugin;
+        this.file = plugin.getDataFolder().toPath().resolve(FILE_NAME);
+        this.persister = new FilePersister(plugin, file, this::encode);
+        this.state = ServerState.DEFAULT;
+    }
+
+    /**
+     * Load the state file, or migrate the legacy config section if there is none.
+     */
+    public void load() {
+        if (Files.exists(file)) {
+            try {
+                state = decode(Files.readAllBytes(file));
+                return;
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not read " + FILE_NAME + ", starting from defaults", e);
+                keepCorruptFile();
+            }
+        }
+
+        ServerState legacy = plugin.getConfigManager().takeLegacyServerState();
+        if (legacy != null) {
+            state = legacy;
+            persister.markDirty();
+            persister.flush();
+            plugin.getLogger().info("Migrated server-state from config.yml to " + FILE_NAME);
+        }
+    }
+
+    /**
+     * Get the current state. Safe to call from any thread.
+     */
+    public ServerState get() {
+        return state;
+    }
+
+    /**
+     * Apply a change; the file is written behind if the state actually changed.
+     */
+    public synchronized void update(UnaryOperator<ServerState> change) {
+        ServerState next = change.apply(state);
+        if (!next.equals(state)) {
+            state = next;
+            persister.markDirty();
+        }
+    }
+
+    /**
+     * Write pending changes now, on the calling thread.
+     */
+    public void flush() {
+        persister.flush();
+    }
+
+    private byte[] encode() {
+        ServerState current = state;
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+            DataOutputStream payload = new DataOutputStream(payloadBytes);
+            payload.writeBoolean(current.started());
+            payload.writeLong(current.beginningTimerDeadline());
+            payload.writeLong(current.restartTimerDeadline());
+            payload.writeLong(current.endTimerDeadline());
+            payload.writeLong(current.checkpointTime());
+            byte[] body = payloadBytes.toByteArray();
+
+            ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(body.length + 14);
+            DataOutputStream out = new DataOutputStream(fileBytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeInt((int) checksum(body));
+            return fileBytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory streams do not fail
+        }
+    }
+
+    private static ServerState decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a state file");
+        }
+        short version = in.readShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported state file version " + version);
+        }
+        int length = in.readInt();
+        if (length < 0 || length > MAX_PAYLOAD) {
+            throw new IOException("Invalid payload length " + length);
+        }
+        byte[] body = in.readNBytes(length);
+        if (body.length != length) {
+            throw new IOException("Truncated state file");
+        }
+        if ((int) checksum(body) != in.readInt()) {
+            throw new IOException("Checksum mismatch");
+        }
+
+        DataInputStream payload = new DataInputStream(new ByteArrayInputStream(body));
+        if (version == 1) {
+            return ServerState.fromRemaining(payload.readBoolean(), payload.readInt(), payload.readInt());
+        }
+        return new ServerState(payload.readBoolean(), payload.readLong(), payload.readLong(), payload.readLong(),
+                payload.readLong());
+    }
+
+    private static long checksum(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return crc.getValue();
+    }
+
+    /**
+     * Move an unreadable state file aside, so it can be inspected and is not overwritten.
+     */
+    private void keepCorruptFile() {
+        try {
+            Files.move(file, file.resolveSibling(FILE_NAME + ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not move aside " + FILE_NAME, e);
+        }
+    }
+}
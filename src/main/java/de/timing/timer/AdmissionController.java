@@ -0,0 +1,222 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import de.timing.config.ConfigSnapshot;
+import de.timing.util.MessageTemplate;
+import de.timing.util.MessageUtil;
+import net.kyori.adventure.text.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the login rate right after the beginning timer opens the server.
+ * A token bucket lets at most N logins per second through; players over the
+ * limit are put in a FIFO queue and kicked with their position and a retry time.
+ * Queued players keep their place as long as they retry within the queue timeout.
+ *
+ * Admission is lock-free so concurrent pre-login threads never wait on each
+ * other. The bucket is a single CAS'd "theoretical arrival time" (each token
+ * taken pushes it one emission interval ahead). Each queued player holds a
+ * ticket with a sequence number, and the live sequences are kept in a sorted
+ * set, so a position is the number of players still waiting ahead of them.
+ * Players leaving out of order (admitted, timed out) move everyone behind them up.
+ */
+public class AdmissionController {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Timing plugin;
+    private final Map<UUID, Ticket> tickets;
+    private final ConcurrentSkipListSet<Long> waiting;
+    private final AtomicLong tail;
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong lastPruneNanos;
+    private final LongAdder admitted;
+    private final LongAdder denied;
+    private volatile long openUntilNanos;
+
+    // Written by open() before openUntilNanos is published
+    private double ratePerSecond;
+    private long emissionNanos;
+    private long toleranceNanos;
+    private long queueTimeoutNanos;
+
+    public AdmissionController(Timing plugin) {
+        this.plugin = plugin;
+        this.tickets = new ConcurrentHashMap<>();
+        this.waiting = new ConcurrentSkipListSet<>();
+        this.tail = new AtomicLong();
+        this.theoreticalArrival = new AtomicLong();
+        this.lastPruneNanos = new AtomicLong();
+        this.admitted = new LongAdder();
+        this.denied = new LongAdder();
+        this.openUntilNanos = 0L;
+    }
+
+    /**
+     * Start staged admission, if enabled in the config.
+     */
+    public synchronized void open() {
+        ConfigSnapshot.Admission config = plugin.getConfigManager().getSnapshot().beginningTimer().admission();
+        if (!config.enabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        ratePerSecond = Math.max(1, config.loginsPerSecond());
+        double burst = Math.max(ratePerSecond, config.burst());
+        emissionNanos = (long) (NANOS_PER_SECOND / ratePerSecond);
+        toleranceNanos = (long) ((burst - 1) * emissionNanos);
+        queueTimeoutNanos = config.queueTimeoutSeconds() * NANOS_PER_SECOND;
+        theoreticalArrival.set(now);
+        lastPruneNanos.set(now);
+        tickets.clear();
+        waiting.clear();
+        tail.set(0L);
+        admitted.reset();
+        denied.reset();
+        openUntilNanos = now + config.durationSeconds() * NANOS_PER_SECOND;
+
+        plugin.getLogger().info("Staged admission active: " + (int) ratePerSecond + " logins/second for "
+                + config.durationSeconds() + " seconds");
+    }
+
+    /**
+     * Stop staged admission and drop the queue.
+     */
+    public synchronized void close() {
+        openUntilNanos = 0L;
+        tickets.clear();
+        waiting.clear();
+    }
+
+    /**
+     * Check if staged admission is currently limiting logins. Safe to call from any thread.
+     */
+    public boolean isActive() {
+        long until = openUntilNanos;
+        return until != 0L && until - System.nanoTime() > 0;
+    }
+
+    /**
+     * Try to admit a connecting player. Safe to call from any thread.
+     *
+     * @return 0 if the player may join, otherwise their 1-based queue position
+     */
+    public int tryAdmit(UUID uuid) {
+        if (!isActive()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        pruneExpired(now);
+
+        Ticket ticket = tickets.get(uuid);
+        // A newcomer queues behind everyone still waiting
+        int position = ticket != null ? rank(ticket) : tickets.size() + 1;
+
+        // Admit when there are enough tokens for everyone ahead of this player
+        if (tryTakeToken(now, position)) {
+            if (ticket != null && tickets.remove(uuid, ticket)) {
+                waiting.remove(ticket.sequence);
+            }
+            admitted.increment();
+            return 0;
+        }
+
+        if (ticket == null) {
+            ticket = tickets.computeIfAbsent(uuid, key -> {
+                Ticket created = new Ticket(tail.getAndIncrement());
+                waiting.add(created.sequence);
+                return created;
+            });
+        }
+        ticket.lastSeenNanos = now;
+        denied.increment();
+        return rank(ticket);
+    }
+
+    /**
+     * Build the kick message for a queued player.
+     */
+    public Component getQueueMessage(int position) {
+        int retrySeconds = (int) Math.ceil(position / Math.max(1, ratePerSecond));
+        Map<MessageTemplate.Slot, String> values = new EnumMap<>(MessageTemplate.Slot.class);
+        values.put(MessageTemplate.Slot.POSITION, String.valueOf(position));
+        values.put(MessageTemplate.Slot.TIME, MessageUtil.formatTime(Math.max(1, retrySeconds)));
+        return plugin.getConfigManager().getAdmissionKickTemplate().render(values);
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getDenied() {
+        return denied.sum();
+    }
+
+    public int getQueueDepth() {
+        return tickets.size();
+    }
+
+    /**
+     * 1-based position of a ticket: the players still waiting with a lower
+     * sequence, plus one. Walks only the part of the queue ahead of the ticket.
+     */
+    private int rank(Ticket ticket) {
+        return waiting.headSet(ticket.sequence).size() + 1;
+    }
+
+    /**
+     * Take a token if at least {@code needed} are available.
+     */
+    private boolean tryTakeToken(long now, int needed) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = Math.max(arrival, now);
+            long available = (now + toleranceNanos + emissionNanos - base) / emissionNanos;
+            if (needed > available) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, base + emissionNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drop players who stopped retrying. Runs at most once per second, on
+     * whichever login thread gets there first.
+     */
+    private void pruneExpired(long now) {
+        long last = lastPruneNanos.get();
+        if (now - last < NANOS_PER_SECOND || !lastPruneNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        for (Map.Entry<UUID, Ticket> entry : tickets.entrySet()) {
+            Ticket ticket = entry.getValue();
+            if (now - ticket.lastSeenNanos > queueTimeoutNanos && tickets.remove(entry.getKey(), ticket)) {
+                waiting.remove(ticket.sequence);
+            }
+        }
+    }
+
+    /**
+     * A queued player's place in line.
+     */
+    private static final class Ticket {
+
+        private final long sequence;
+        private volatile long lastSeenNanos;
+
+        private Ticket(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
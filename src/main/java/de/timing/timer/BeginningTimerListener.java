@@ -1,68 +1,126 @@
-package de.timing.timer;
-
-import de.timing.Timing;
-import com.destroystokyo.paper.event.server.PaperServerListPingEvent;
-import org.bukkit.OfflinePlayer;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
-import net.kyori.adventure.text.Component;
-
-import java.util.UUID;
-
-/**
- * Listener for Beginning Timer events.
- * Handles MOTD modification and player kick during countdown.
- * OPs and whitelisted players can bypass the kick.
- */
-public class BeginningTimerListener implements Listener {
-
-    private final Timing plugin;
-
-    public BeginningTimerListener(Timing plugin) {
-        this.plugin = plugin;
-    }
-
-    /**
-     * Modify MOTD during countdown.
-     */
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onServerListPing(PaperServerListPingEvent event) {
-        if (!plugin.getBeginningTimerManager().isRunning()) {
-            return;
-        }
-
-        Component motd = plugin.getBeginningTimerManager().getMotd();
-        if (motd != null) {
-            event.motd(motd);
-        }
-    }
-
-    /**
-     * Kick players trying to connect during countdown.
-     * OPs and whitelisted players can bypass.
-     */
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
-        if (!plugin.getBeginningTimerManager().isRunning()) {
-            return;
-        }
-
-        UUID playerUUID = event.getUniqueId();
-
-        OfflinePlayer offlinePlayer = plugin.getServer().getOfflinePlayer(playerUUID);
-        if (offlinePlayer.isOp()) {
-            return;
-        }
-
-        if (offlinePlayer.isWhitelisted()) {
-            return;
-        }
-
-        Component kickMessage = plugin.getBeginningTimerManager().getKickMessage();
-        if (kickMessage != null) {
-            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, kickMessage);
-        }
-    }
-}
+package de.timing.timer;
+
+import de.timing.Timing;
+import com.destroystokyo.paper.event.server.WhitelistToggleEvent;
+import io.papermc.paper.event.server.WhitelistStateUpdateEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.server.ServerCommandEvent;
+import net.kyori.adventure.text.Component;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Listener for Beginning Timer events.
+ * Handles player kick during countdown (the MOTD is served by MotdListener).
+ * OPs, whitelisted and reserved players can bypass the kick.
+ */
+public class BeginningTimerListener implements Listener {
+
+    private static final Set<String> PERMISSION_COMMANDS = Set.of("op", "deop", "whitelist");
+
+    private final Timing plugin;
+
+    public BeginningTimerListener(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Kick players trying to connect during countdown.
+     * Bypass is a single lookup in the cached BypassIndex.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (!plugin.getBeginningTimerManager().isRunning()) {
+            checkAdmission(event);
+            return;
+        }
+
+        if (plugin.getBeginningTimerManager().getBypassIndex().canBypass(event.getUniqueId())) {
+            return;
+        }
+
+        Component kickMessage = plugin.getBeginningTimerManager().getKickMessage();
+        if (kickMessage != null) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, kickMessage);
+        }
+    }
+
+    /**
+     * Apply staged admission right after the server opened.
+     * Bypass players skip the queue.
+     */
+    private void checkAdmission(AsyncPlayerPreLoginEvent event) {
+        AdmissionController admission = plugin.getBeginningTimerManager().getAdmissionController();
+        if (!admission.isActive() || event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        if (plugin.getBeginningTimerManager().getBypassIndex().canBypass(event.getUniqueId())) {
+            return;
+        }
+
+        int position = admission.tryAdmit(event.getUniqueId());
+        if (position > 0) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, admission.getQueueMessage(position));
+        }
+    }
+
+    /**
+     * Rebuild the bypass index when a player is added to or removed from the whitelist.
+     * The event fires before the change is applied, so the rebuild is deferred.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWhitelistStateUpdate(WhitelistStateUpdateEvent event) {
+        plugin.getBeginningTimerManager().getBypassIndex().requestDeferredRebuild();
+    }
+
+    /**
+     * Rebuild the bypass index when the whitelist is turned on or off.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWhitelistToggle(WhitelistToggleEvent event) {
+        plugin.getBeginningTimerManager().getBypassIndex().requestDeferredRebuild();
+    }
+
+    /**
+     * Op changes have no event, so watch for op/deop/whitelist commands from console.
+     * The event fires before the command runs, so the rebuild is deferred.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onServerCommand(ServerCommandEvent event) {
+        if (isPermissionCommand(event.getCommand())) {
+            plugin.getBeginningTimerManager().getBypassIndex().requestDeferredRebuild();
+        }
+    }
+
+    /**
+     * Op changes have no event, so watch for op/deop/whitelist commands from players.
+     * The event fires before the command runs, so the rebuild is deferred.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        if (isPermissionCommand(event.getMessage())) {
+            plugin.getBeginningTimerManager().getBypassIndex().requestDeferredRebuild();
+        }
+    }
+
+    private boolean isPermissionCommand(String commandLine) {
+        String command = commandLine.trim().toLowerCase(Locale.ROOT);
+        if (command.startsWith("/")) {
+            command = command.substring(1);
+        }
+        int space = command.indexOf(' ');
+        if (space >= 0) {
+            command = command.substring(0, space);
+        }
+        if (command.startsWith("minecraft:")) {
+            command = command.substring("minecraft:".length());
+        }
+        return PERMISSION_COMMANDS.contains(command);
+    }
+}
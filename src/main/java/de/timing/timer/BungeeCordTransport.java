@@ -0,0 +1,45 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import org.bukkit.entity.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * ProxyTransport using the BungeeCord plugin messaging channel.
+ * Velocity understands the same "Connect" message when its BungeeCord
+ * plugin message channel is enabled.
+ */
+public class BungeeCordTransport implements ProxyTransport {
+
+    public static final String CHANNEL = "BungeeCord";
+
+    private final Timing plugin;
+
+    public BungeeCordTransport(Timing plugin) {
+        this.plugin = plugin;
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, CHANNEL);
+    }
+
+    @Override
+    public void connect(Player player, String server) {
+        player.sendPluginMessage(plugin, CHANNEL, createConnectMessage(server));
+    }
+
+    /**
+     * Build the "Connect" plugin message payload for a target server.
+     */
+    public static byte[] createConnectMessage(String server) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF("Connect");
+            out.writeUTF(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,124 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import org.bukkit.OfflinePlayer;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory index of players who may join during the beginning countdown:
+ * ops, whitelisted players and the configured reservation list.
+ * Rebuilt on the global region thread and published as an immutable set,
+ * so the async pre-login check is a single hash lookup.
+ */
+public class BypassIndex {
+
+    private final Timing plugin;
+    private final AtomicBoolean rebuildQueued;
+    private final AtomicBoolean deferredRebuildQueued;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private volatile Set<UUID> bypass;
+
+    public BypassIndex(Timing plugin) {
+        this.plugin = plugin;
+        this.rebuildQueued = new AtomicBoolean(false);
+        this.deferredRebuildQueued = new AtomicBoolean(false);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.bypass = Set.of();
+    }
+
+    /**
+     * Rebuild right away when called on the global region thread, otherwise
+     * queue the rebuild there. Safe to call from any thread.
+     */
+    public void refresh() {
+        if (plugin.getServer().isGlobalTickThread()) {
+            rebuild();
+        } else {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Queue a rebuild on the next global region tick. Multiple requests before
+     * the rebuild runs are coalesced into one.
+     */
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            plugin.getServer().getGlobalRegionScheduler().run(plugin, task -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Queue a rebuild one tick from now, for changes that are announced before
+     * they are applied (command preprocess and whitelist events). Coalesced
+     * separately from {@link #requestRebuild()}, so an already queued rebuild
+     * cannot swallow it and run before the change.
+     */
+    public void requestDeferredRebuild() {
+        if (deferredRebuildQueued.compareAndSet(false, true)) {
+            plugin.getServer().getGlobalRegionScheduler().runDelayed(plugin, task -> {
+                deferredRebuildQueued.set(false);
+                rebuild();
+            }, 1);
+        }
+    }
+
+    /**
+     * Rebuild the index from the op list, whitelist and reservation list.
+     * Must run on the global region thread.
+     */
+    private void rebuild() {
+        Set<UUID> next = new HashSet<>();
+
+        for (OfflinePlayer player : plugin.getServer().getOperators()) {
+            next.add(player.getUniqueId());
+        }
+        for (OfflinePlayer player : plugin.getServer().getWhitelistedPlayers()) {
+            next.add(player.getUniqueId());
+        }
+        for (String entry : plugin.getConfigManager().getBeginningTimerBypassReservations()) {
+            try {
+                next.add(UUID.fromString(entry.trim()));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid UUID in beginning-timer.bypass-reservations: " + entry);
+            }
+        }
+
+        bypass = Set.copyOf(next);
+    }
+
+    /**
+     * Check if a player may bypass the countdown kick. Safe to call from any thread.
+     */
+    public boolean canBypass(UUID uuid) {
+        boolean hit = bypass.contains(uuid);
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return hit;
+    }
+
+    public int size() {
+        return bypass.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,21 @@
+package de.timing.timer;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Sends a player to another server behind the proxy.
+ * The default implementation uses BungeeCord plugin messaging; another
+ * transport can be plugged into the ServerDrainer, e.g. one that records
+ * transfers instead of sending them.
+ */
+@FunctionalInterface
+public interface ProxyTransport {
+
+    /**
+     * Ask the proxy to move a player to the given server.
+     * Called on the player's own region thread.
+     *
+     * @throws RuntimeException if the message could not be sent
+     */
+    void connect(Player player, String server);
+}
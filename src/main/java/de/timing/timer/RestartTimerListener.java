@@ -1,52 +1,55 @@
-package de.timing.timer;
-
-import de.timing.Timing;
-import com.destroystokyo.paper.event.server.PaperServerListPingEvent;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
-import net.kyori.adventure.text.Component;
-
-/**
- * Listener for Restart Timer events.
- * Handles MOTD modification and player kick during countdown.
- */
-public class RestartTimerListener implements Listener {
-
-    private final Timing plugin;
-
-    public RestartTimerListener(Timing plugin) {
-        this.plugin = plugin;
-    }
-
-    /**
-     * Modify MOTD during countdown.
-     */
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onServerListPing(PaperServerListPingEvent event) {
-        if (!plugin.getRestartTimerManager().isRunning()) {
-            return;
-        }
-
-        Component motd = plugin.getRestartTimerManager().getMotd();
-        if (motd != null) {
-            event.motd(motd);
-        }
-    }
-
-    /**
-     * Kick players trying to connect during restart countdown.
-     */
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
-        if (!plugin.getRestartTimerManager().isRunning()) {
-            return;
-        }
-
-        Component kickMessage = plugin.getRestartTimerManager().getKickMessage();
-        if (kickMessage != null) {
-            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, kickMessage);
-        }
-    }
-}
+package de.timing.timer;
+
+import de.timing.Timing;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import net.kyori.adventure.text.Component;
+
+/**
+ * Listener for Restart Timer events.
+ * Handles player kick during countdown (the MOTD is served by MotdListener).
+ */
+public class RestartTimerListener implements Listener {
+
+    private final Timing plugin;
+
+    public RestartTimerListener(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Kick players trying to connect during restart countdown, or once it ended
+     * and the server is draining, kicking or stopping.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (plugin.getRestartTimerManager().isClosing()) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                plugin.getConfigManager().getRestartFinalKickTemplate().render());
+            return;
+        }
+
+        if (!plugin.getRestartTimerManager().isRunning()) {
+            return;
+        }
+
+        Component kickMessage = plugin.getRestartTimerManager().getKickMessage();
+        if (kickMessage != null) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, kickMessage);
+        }
+    }
+
+    /**
+     * Kick players whose pre-login passed just before the server started closing,
+     * since the final kicks were planned without them.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        if (plugin.getRestartTimerManager().isClosing()) {
+            event.getPlayer().kick(plugin.getConfigManager().getRestartFinalKickTemplate().render());
+        }
+    }
+}
@@ -1,149 +1,212 @@
-package de.timing.timer;
-
-import de.timing.Timing;
-import de.timing.util.MessageUtil;
-import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
-import net.kyori.adventure.text.Component;
-import org.bukkit.entity.Player;
-
-/**
- * Manages the server restart/stop countdown timer.
- * During the countdown, modifies MOTD and kicks connecting players.
- * When countdown ends, kicks all players.
- */
-public class RestartTimerManager {
-
-    private final Timing plugin;
-    private ScheduledTask timerTask;
-    private int remainingSeconds;
-    private boolean running;
-
-    public RestartTimerManager(Timing plugin) {
-        this.plugin = plugin;
-        this.running = false;
-        this.remainingSeconds = 0;
-    }
-
-    /**
-     * Start the countdown timer.
-     * 
-     * @param seconds Duration in seconds
-     */
-    public void start(int seconds) {
-        if (running) {
-            stop();
-        }
-
-        this.remainingSeconds = seconds;
-        this.running = true;
-
-        timerTask = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, task -> {
-            if (remainingSeconds <= 0) {
-                onTimerEnd();
-                task.cancel();
-                return;
-            }
-
-            if (shouldBroadcast(remainingSeconds)) {
-                broadcastCountdown();
-            }
-
-            remainingSeconds--;
-        }, 1, 20);
-
-        plugin.getLogger().info("Restart timer started with " + seconds + " seconds");
-    }
-
-    /**
-     * Stop the countdown timer.
-     */
-    public void stop() {
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
-        }
-        running = false;
-        remainingSeconds = 0;
-        plugin.getLogger().info("Restart timer stopped");
-    }
-
-    /**
-     * Called when the countdown reaches zero.
-     */
-    private void onTimerEnd() {
-        running = false;
-        remainingSeconds = 0;
-
-        if (plugin.getConfigManager().isKickAllOnRestart()) {
-            String kickFormat = plugin.getConfigManager().getRestartFinalKickMessage();
-            Component kickMessage = MessageUtil.parse(kickFormat);
-
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.getScheduler().run(plugin, task -> {
-                    player.kick(kickMessage);
-                }, null);
-            }
-
-            plugin.getLogger().info("All players kicked - server stopping!");
-        }
-
-        plugin.setServerStarted(false);
-
-        plugin.getLogger().info("Restart timer completed - stopping server!");
-
-        plugin.getServer().getGlobalRegionScheduler().runDelayed(plugin, task -> {
-            plugin.getServer().shutdown();
-        }, 40);
-    }
-
-    /**
-     * Broadcast countdown message to online players.
-     */
-    private void broadcastCountdown() {
-        String timeFormatted = MessageUtil.formatTime(remainingSeconds);
-        Component message = MessageUtil.info("Server restarting in <white>" + timeFormatted + "</white>");
-
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            player.sendMessage(message);
-        }
-    }
-
-    /**
-     * Determine if we should broadcast at this time.
-     */
-    private boolean shouldBroadcast(int seconds) {
-        return seconds == 300 || seconds == 180 || seconds == 120 ||
-                seconds == 60 || seconds == 30 || seconds == 15 ||
-                seconds == 10 || seconds <= 5;
-    }
-
-    /**
-     * Get the current MOTD for server list ping.
-     */
-    public Component getMotd() {
-        if (!running) {
-            return null;
-        }
-        String format = plugin.getConfigManager().getRestartTimerMotdFormat();
-        return MessageUtil.parseWithTime(format, remainingSeconds);
-    }
-
-    /**
-     * Get the kick message for connecting players.
-     */
-    public Component getKickMessage() {
-        if (!running) {
-            return null;
-        }
-        String format = plugin.getConfigManager().getRestartTimerKickMessage();
-        return MessageUtil.parseWithTime(format, remainingSeconds);
-    }
-
-    public boolean isRunning() {
-        return running;
-    }
-
-    public int getRemainingSeconds() {
-        return remainingSeconds;
-    }
-}
+package de.timing.timer;
+
+import de.timing.Timing;
+import de.timing.broadcast.BroadcastPayload;
+import de.timing.config.ConfigSnapshot;
+import de.timing.util.MessageTemplate;
+import de.timing.util.MessageUtil;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages the server restart/stop countdown timer.
+ * During the countdown, modifies MOTD and kicks connecting players.
+ * When countdown ends, kicks all players.
+ */
+public class RestartTimerManager {
+
+    public static final String TIMER_NAME = "restart";
+
+    private final Timing plugin;
+    private final TimerBossBar bossBar;
+    private final ServerDrainer drainer;
+    // Set once the countdown ended: from then on no one may join until the server stops
+    private volatile boolean closing;
+
+    public RestartTimerManager(Timing plugin) {
+        this.plugin = plugin;
+        this.bossBar = new TimerBossBar(plugin, "restart-timer");
+        this.drainer = new ServerDrainer(plugin, new BungeeCordTransport(plugin));
+        plugin.getTimerEngine().register(new TimerDefinition(TIMER_NAME, this::shouldBroadcast,
+                (timer, seconds) -> broadcastCountdown(seconds), (timer, seconds) -> bossBar.update(seconds),
+                (timer, seconds) -> onTimerEnd()));
+    }
+
+    /**
+     * Start the countdown timer.
+     * 
+     * @param seconds Duration in seconds
+     */
+    public void start(int seconds) {
+        if (isRunning()) {
+            stop();
+        }
+
+        closing = false;
+        plugin.getTimerEngine().start(TIMER_NAME, seconds);
+        bossBar.show(seconds);
+
+        plugin.getMotdManager().refreshServerListState();
+        plugin.getLogger().info("Restart timer started with " + seconds + " seconds");
+    }
+
+    /**
+     * Stop the countdown timer.
+     */
+    public void stop() {
+        plugin.getTimerEngine().stop(TIMER_NAME);
+        bossBar.hide();
+        plugin.getMotdManager().refreshServerListState();
+        plugin.getLogger().info("Restart timer stopped");
+    }
+
+    /**
+     * Called when the countdown reaches zero.
+     * Drains players to the fallback server first if enabled, then kicks and stops.
+     */
+    private void onTimerEnd() {
+        // Close before planning any transfer or kick, so logins in between are refused
+        closing = true;
+        plugin.getMotdManager().refreshServerListState();
+        bossBar.hide();
+        plugin.setServerStarted(false);
+
+        ConfigSnapshot.Drain drain = plugin.getConfigManager().getSnapshot().restartTimer().drain();
+        if (drain.enabled() && !plugin.getServer().getOnlinePlayers().isEmpty()) {
+            drainer.drain(
+                drain.server(),
+                drain.windowSeconds(),
+                drain.timeoutSeconds(),
+                this::kickAllAndShutdown
+            );
+            return;
+        }
+
+        kickAllAndShutdown();
+    }
+
+    /**
+     * Kick all remaining players in staggered batches and stop the server as soon
+     * as every kick has run, or once the configured timeout has passed.
+     */
+    private void kickAllAndShutdown() {
+        long drainStart = System.nanoTime();
+        List<CompletableFuture<Void>> kicks = new ArrayList<>();
+
+        if (plugin.getConfigManager().isKickAllOnRestart()) {
+            Component kickMessage = plugin.getConfigManager().getRestartFinalKickTemplate().render();
+            int batchSize = Math.max(1, plugin.getConfigManager().getRestartKickBatchSize());
+            long batchInterval = Math.max(1, plugin.getConfigManager().getRestartKickBatchIntervalTicks());
+
+            List<Player> players = new ArrayList<>(plugin.getServer().getOnlinePlayers());
+            for (int i = 0; i < players.size(); i++) {
+                Player player = players.get(i);
+                long delay = 1 + (i / batchSize) * batchInterval;
+                CompletableFuture<Void> kicked = new CompletableFuture<>();
+
+                ScheduledTask task = player.getScheduler().runDelayed(plugin, t -> {
+                    player.kick(kickMessage);
+                    kicked.complete(null);
+                }, () -> kicked.complete(null), delay);
+
+                if (task == null) {
+                    // Player was already removed
+                    kicked.complete(null);
+                }
+                kicks.add(kicked);
+            }
+
+            plugin.getLogger().info("Kicking " + players.size() + " players in batches of " + batchSize + " - server stopping!");
+        }
+
+        plugin.getLogger().info("Restart timer completed - stopping server!");
+
+        int timeoutSeconds = plugin.getConfigManager().getRestartShutdownTimeoutSeconds();
+        CompletableFuture.allOf(kicks.toArray(new CompletableFuture[0]))
+            .completeOnTimeout(null, timeoutSeconds, TimeUnit.SECONDS)
+            .thenRun(() -> plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+                long pending = kicks.stream().filter(kick -> !kick.isDone()).count();
+                long drainMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - drainStart);
+                if (pending > 0) {
+                    plugin.getLogger().warning("Kick drain timed out after " + drainMillis + " ms with "
+                        + pending + " kicks pending - stopping anyway");
+                } else {
+                    plugin.getLogger().info("Kicked " + kicks.size() + " players in " + drainMillis + " ms");
+                }
+                plugin.getServer().shutdown();
+            }));
+    }
+
+    /**
+     * Broadcast countdown message to online players.
+     */
+    private void broadcastCountdown(int seconds) {
+        plugin.getBroadcastDispatcher().broadcastChat(plugin.getConfigManager().getRestartTimerCountdownTemplate(),
+                Map.of(MessageTemplate.Slot.TIME, MessageUtil.formatTime(seconds)));
+    }
+
+    /**
+     * Determine if we should broadcast at this time.
+     */
+    private boolean shouldBroadcast(int seconds) {
+        return seconds == 300 || seconds == 180 || seconds == 120 ||
+                seconds == 60 || seconds == 30 || seconds == 15 ||
+                seconds == 10 || seconds <= 5;
+    }
+
+    /**
+     * Get the current MOTD for server list ping.
+     */
+    public Component getMotd() {
+        TimerState state = plugin.getTimerEngine().getState(TIMER_NAME);
+        if (!state.isRunning()) {
+            return null;
+        }
+        return plugin.getConfigManager().getRestartTimerMotdTemplate().renderWithTime(state.getRemainingSeconds());
+    }
+
+    /**
+     * Get the kick message for connecting players.
+     */
+    public Component getKickMessage() {
+        TimerState state = plugin.getTimerEngine().getState(TIMER_NAME);
+        if (!state.isRunning()) {
+            return null;
+        }
+        return plugin.getConfigManager().getRestartTimerKickTemplate().renderWithTime(state.getRemainingSeconds());
+    }
+
+    /**
+     * Check if the countdown ended and the server is draining, kicking or
+     * stopping. Safe to call from any thread.
+     */
+    public boolean isClosing() {
+        return closing;
+    }
+
+    public ServerDrainer getDrainer() {
+        return drainer;
+    }
+
+    public TimerBossBar getBossBar() {
+        return bossBar;
+    }
+
+    public boolean isRunning() {
+        return plugin.getTimerEngine().isRunning(TIMER_NAME);
+    }
+
+    /**
+     * Get the remaining seconds, derived from the countdown deadline.
+     */
+    public int getRemainingSeconds() {
+        return plugin.getTimerEngine().getRemainingSeconds(TIMER_NAME);
+    }
+}
@@ -0,0 +1,215 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import de.timing.broadcast.SectionTracker.SectionKey;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drains players to a fallback server through the proxy before a restart.
+ * Players are grouped by their region section first, and the groups are cut
+ * into batches spread evenly over a window, so the proxy does not get every
+ * reconnect in the same tick and each batch is a single task on the region
+ * that owns its players. A player whose transfer fails is kicked right away
+ * instead of waiting for the timeout.
+ * Completes once the server is empty or the timeout expires.
+ */
+public class ServerDrainer {
+
+    private final Timing plugin;
+    private final Logger logger;
+    private final LongAdder transferred;
+    private final LongAdder failed;
+    private volatile ProxyTransport transport;
+    private volatile boolean draining;
+
+    public ServerDrainer(Timing plugin, ProxyTransport transport) {
+        this(plugin, plugin.getLogger(), transport);
+    }
+
+    ServerDrainer(Timing plugin, Logger logger, ProxyTransport transport) {
+        this.plugin = plugin;
+        this.logger = logger;
+        this.transferred = new LongAdder();
+        this.failed = new LongAdder();
+        this.transport = transport;
+        this.draining = false;
+    }
+
+    /**
+     * Start draining all online players.
+     *
+     * @param server        Target server name on the proxy
+     * @param windowSeconds Window over which transfers are spread
+     * @param timeoutSeconds Maximum time to wait for the server to empty
+     * @param onComplete    Run on the global region thread once drained or timed out
+     */
+    public void drain(String server, int windowSeconds, int timeoutSeconds, Runnable onComplete) {
+        draining = true;
+        transferred.reset();
+        failed.reset();
+
+        List<Player> players = new ArrayList<>(plugin.getServer().getOnlinePlayers());
+        List<Batch> batches = planBatches(players, plugin.getSectionTracker()::get, Math.max(1, windowSeconds * 20L));
+        Component fallbackKick = plugin.getConfigManager().getRestartFinalKickTemplate().render();
+
+        for (Batch batch : batches) {
+            SectionKey section = batch.section();
+            if (section == null) {
+                // Not tracked yet, so the owning region is unknown
+                for (Player player : batch.players()) {
+                    player.getScheduler().runDelayed(plugin, task -> transfer(player, server, fallbackKick), null,
+                            batch.delayTicks());
+                }
+                continue;
+            }
+            plugin.getServer().getRegionScheduler().runDelayed(plugin, section.world(), section.chunkX(),
+                    section.chunkZ(), task -> transferBatch(batch.players(), server, fallbackKick),
+                    batch.delayTicks());
+        }
+
+        logger.info("Draining " + players.size() + " players to '" + server + "' in " + batches.size()
+                + " batches over " + windowSeconds + " seconds");
+
+        long deadline = System.nanoTime() + timeoutSeconds * 1_000_000_000L;
+        plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, task -> {
+            boolean empty = plugin.getServer().getOnlinePlayers().isEmpty();
+            boolean timedOut = deadline - System.nanoTime() <= 0;
+            if (!empty && !timedOut) {
+                return;
+            }
+
+            task.cancel();
+            if (timedOut && !empty) {
+                logger.warning("Drain timed out with " + plugin.getServer().getOnlinePlayers().size()
+                        + " players still online");
+            } else {
+                logger.info("Drain complete - server is empty (" + transferred.sum() + " transferred, "
+                        + failed.sum() + " kicked after a failed transfer)");
+            }
+            draining = false;
+            onComplete.run();
+        }, 20, 20);
+    }
+
+    /**
+     * Group players by region section, cut each group into batches of at most
+     * one tick's share of the players, and spread the batches evenly over the
+     * window, the first one tick from now. A section's batches run on
+     * consecutive slots. Untracked players are batched under a null section.
+     * When there are more batches than ticks (many small sections), batches
+     * of different sections share a tick.
+     */
+    static List<Batch> planBatches(List<Player> players, Function<Player, SectionKey> sectionOf, long windowTicks) {
+        int count = players.size();
+        if (count == 0) {
+            return List.of();
+        }
+        long window = Math.max(1, windowTicks);
+        int perBatch = (int) Math.max(1, (count + window - 1) / window);
+
+        Map<SectionKey, List<Player>> groups = new LinkedHashMap<>();
+        for (Player player : players) {
+            groups.computeIfAbsent(sectionOf.apply(player), key -> new ArrayList<>()).add(player);
+        }
+
+        List<Batch> pieces = new ArrayList<>();
+        for (Map.Entry<SectionKey, List<Player>> group : groups.entrySet()) {
+            List<Player> members = group.getValue();
+            for (int from = 0; from < members.size(); from += perBatch) {
+                int to = Math.min(members.size(), from + perBatch);
+                pieces.add(new Batch(0, group.getKey(), List.copyOf(members.subList(from, to))));
+            }
+        }
+
+        List<Batch> batches = new ArrayList<>(pieces.size());
+        for (int b = 0; b < pieces.size(); b++) {
+            Batch piece = pieces.get(b);
+            batches.add(new Batch(1 + (b * window) / pieces.size(), piece.section(), piece.players()));
+        }
+        return batches;
+    }
+
+    /**
+     * Transfer a batch from the region that owned its section when it was
+     * planned. Players that moved to another region since are handed to
+     * their entity scheduler.
+     */
+    private void transferBatch(List<Player> players, String server, Component fallbackKick) {
+        for (Player player : players) {
+            if (plugin.getServer().isOwnedByCurrentRegion(player)) {
+                transfer(player, server, fallbackKick);
+            } else {
+                player.getScheduler().run(plugin, task -> transfer(player, server, fallbackKick), null);
+            }
+        }
+    }
+
+    /**
+     * Send one player to the target server. If the transport fails, the
+     * player is kicked with the fallback message. Called on the player's
+     * region thread.
+     *
+     * @return true if the transfer was handed to the proxy
+     */
+    boolean transfer(Player player, String server, Component fallbackKick) {
+        if (!player.isOnline()) {
+            return false;
+        }
+        try {
+            transport.connect(player, server);
+            transferred.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.log(Level.WARNING, "Could not send " + player.getName() + " to '" + server + "', kicking instead", e);
+            player.kick(fallbackKick);
+            return false;
+        }
+    }
+
+    /**
+     * Check if a drain is in progress. Safe to call from any thread.
+     */
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * Players handed to the proxy during the current (or last) drain.
+     */
+    public long getTransferred() {
+        return transferred.sum();
+    }
+
+    /**
+     * Players kicked because their transfer failed during the current (or last) drain.
+     */
+    public long getFailedTransfers() {
+        return failed.sum();
+    }
+
+    /**
+     * Replace the transport, e.g. with one that records transfers instead of sending them.
+     */
+    public void setTransport(ProxyTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Players of one region section transferred on the same tick.
+     *
+     * @param section The players' section, or null if they were not tracked
+     */
+    record Batch(long delayTicks, SectionKey section, List<Player> players) {
+    }
+}
@@ -0,0 +1,93 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+/**
+ * Optional boss-bar countdown for a timer.
+ * One shared BossBar instance is shown to every player; its name and progress
+ * are updated once per engine tick, so the update cost does not grow with the
+ * player count. Players joining while the timer runs are attached in O(1).
+ * Showing and hiding go through the BroadcastDispatcher, so each player is
+ * touched on its own region thread.
+ */
+public class TimerBossBar {
+
+    private final Timing plugin;
+    private final String configSection;
+    private final BossBar bar;
+    private volatile boolean visible;
+    private int totalSeconds;
+
+    /**
+     * @param configSection Timer config section holding the boss-bar settings (e.g. "restart-timer")
+     */
+    public TimerBossBar(Timing plugin, String configSection) {
+        this.plugin = plugin;
+        this.configSection = configSection;
+        this.bar = BossBar.bossBar(Component.empty(), 1.0f, BossBar.Color.WHITE, BossBar.Overlay.PROGRESS);
+        this.visible = false;
+    }
+
+    /**
+     * Show the bar to all online players, if enabled for this timer.
+     */
+    public void show(int seconds) {
+        if (!plugin.getConfigManager().isBossBarEnabled(configSection)) {
+            return;
+        }
+
+        totalSeconds = Math.max(1, seconds);
+        bar.color(plugin.getConfigManager().getBossBarColor(configSection));
+        visible = true;
+        update(seconds);
+
+        plugin.getBroadcastDispatcher().broadcast(player -> player.showBossBar(bar));
+    }
+
+    /**
+     * Update name and progress. Viewers receive the change from the shared bar.
+     * Does nothing while the bar is hidden or disabled for this timer.
+     */
+    public void update(int remainingSeconds) {
+        if (!visible) {
+            return;
+        }
+        bar.name(plugin.getConfigManager().getBossBarTitleTemplate(configSection).renderWithTime(remainingSeconds));
+        bar.progress(Math.max(0.0f, Math.min(1.0f, remainingSeconds / (float) totalSeconds)));
+    }
+
+    /**
+     * Hide the bar from everyone.
+     */
+    public void hide() {
+        if (!visible) {
+            return;
+        }
+        visible = false;
+
+        plugin.getBroadcastDispatcher().broadcast(player -> player.hideBossBar(bar));
+    }
+
+    /**
+     * Attach a (joining) player to the bar if it is currently shown.
+     */
+    public void attach(Player player) {
+        if (visible) {
+            player.showBossBar(bar);
+        }
+    }
+
+    /**
+     * Detach a (leaving) player from the bar.
+     */
+    public void detach(Player player) {
+        player.hideBossBar(bar);
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+}
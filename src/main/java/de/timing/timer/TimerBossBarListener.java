@@ -0,0 +1,46 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.List;
+
+/**
+ * Attaches joining players to the boss bars of running timers and detaches them on quit.
+ */
+public class TimerBossBarListener implements Listener {
+
+    private final Timing plugin;
+
+    public TimerBossBarListener(Timing plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        for (TimerBossBar bossBar : getBossBars()) {
+            bossBar.attach(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        for (TimerBossBar bossBar : getBossBars()) {
+            bossBar.detach(player);
+        }
+    }
+
+    private List<TimerBossBar> getBossBars() {
+        return List.of(
+            plugin.getBeginningTimerManager().getBossBar(),
+            plugin.getRestartTimerManager().getBossBar(),
+            plugin.getEndTimerManager().getBossBar()
+        );
+    }
+}
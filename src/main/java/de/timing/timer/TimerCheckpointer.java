@@ -0,0 +1,96 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import de.timing.config.ConfigSnapshot;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Periodically records the wall-clock deadline of every running timer in
+ * the state store, so countdowns survive a crash or kill, not just a clean
+ * shutdown. A checkpoint costs a few volatile reads; the state file is only
+ * written when a deadline changed (a timer was started, stopped or ended).
+ * When downtime is not subtracted, the checkpoint time itself matters, so
+ * running timers are then recorded on every checkpoint.
+ */
+public class TimerCheckpointer {
+
+    private static final String[] TIMERS = {
+        BeginningTimerManager.TIMER_NAME, RestartTimerManager.TIMER_NAME, EndTimerManager.TIMER_NAME
+    };
+
+    private final Timing plugin;
+    private final Map<String, Checkpoint> lastCheckpoints;
+    private ScheduledTask task;
+
+    public TimerCheckpointer(Timing plugin) {
+        this.plugin = plugin;
+        this.lastCheckpoints = new HashMap<>();
+    }
+
+    /**
+     * Start checkpointing at the configured interval (0 = only on shutdown).
+     */
+    public synchronized void start() {
+        stop();
+        long intervalTicks = plugin.getConfigManager().getSnapshot().timerCheckpoint().intervalSeconds() * 20L;
+        if (intervalTicks > 0) {
+            task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, scheduledTask -> checkpoint(),
+                    intervalTicks, intervalTicks);
+        }
+    }
+
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Record the current deadlines if they changed since the last checkpoint.
+     */
+    public synchronized void checkpoint() {
+        ConfigSnapshot.TimerCheckpoint config = plugin.getConfigManager().getSnapshot().timerCheckpoint();
+        long now = System.currentTimeMillis();
+        long[] deadlines = new long[TIMERS.length];
+        for (int i = 0; i < TIMERS.length; i++) {
+            deadlines[i] = getDeadline(TIMERS[i], now);
+        }
+
+        plugin.getStateStore().update(state -> {
+            boolean unchanged = state.beginningTimerDeadline() == deadlines[0]
+                    && state.restartTimerDeadline() == deadlines[1]
+                    && state.endTimerDeadline() == deadlines[2];
+            if (unchanged && (config.subtractDowntime() || !state.hasTimerDeadlines())) {
+                return state;
+            }
+            return state.withTimerDeadlines(deadlines[0], deadlines[1], deadlines[2], now);
+        });
+    }
+
+    /**
+     * Get a timer's deadline as epoch millis (0 if not running). Converted
+     * once per timer start, so clock jitter does not look like a change.
+     */
+    private long getDeadline(String name, long now) {
+        TimerState state = plugin.getTimerEngine().getState(name);
+        if (!state.isRunning()) {
+            lastCheckpoints.remove(name);
+            return 0L;
+        }
+
+        Checkpoint last = lastCheckpoints.get(name);
+        if (last == null || last.revision() != state.revision()) {
+            long deadline = now + (state.deadlineNanos() - System.nanoTime()) / 1_000_000L;
+            last = new Checkpoint(state.revision(), deadline);
+            lastCheckpoints.put(name, last);
+        }
+        return last.deadlineMillis();
+    }
+
+    private record Checkpoint(long revision, long deadlineMillis) {
+    }
+}
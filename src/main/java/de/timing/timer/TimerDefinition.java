@@ -0,0 +1,66 @@
+package de.timing.timer;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A named countdown timer definition for the TimerEngine.
+ * Describes when to announce and what to do on each tick and at the end;
+ * the engine owns the actual countdown state.
+ */
+public class TimerDefinition {
+
+    private final String name;
+    private final IntPredicate broadcastThresholds;
+    private final TimerAction onThreshold;
+    private final TimerAction onTick;
+    private final TimerAction onEnd;
+
+    /**
+     * @param name                Unique timer name
+     * @param broadcastThresholds Remaining seconds at which onThreshold fires
+     * @param onThreshold         Action run when a threshold is crossed (may be null)
+     * @param onTick              Action run on every engine tick while running (may be null)
+     * @param onEnd               Action run once the deadline has passed (may be null)
+     */
+    public TimerDefinition(String name, IntPredicate broadcastThresholds,
+                           TimerAction onThreshold, TimerAction onTick, TimerAction onEnd) {
+        this.name = name;
+        this.broadcastThresholds = broadcastThresholds;
+        this.onThreshold = onThreshold;
+        this.onTick = onTick;
+        this.onEnd = onEnd;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public IntPredicate getBroadcastThresholds() {
+        return broadcastThresholds;
+    }
+
+    public TimerAction getOnThreshold() {
+        return onThreshold;
+    }
+
+    public TimerAction getOnTick() {
+        return onTick;
+    }
+
+    public TimerAction getOnEnd() {
+        return onEnd;
+    }
+
+    /**
+     * Action hook for a timer, called on the global region thread.
+     */
+    @FunctionalInterface
+    public interface TimerAction {
+
+        /**
+         * @param definition       The timer this action belongs to
+         * @param remainingSeconds Remaining seconds (0 for the end action)
+         */
+        void run(TimerDefinition definition, int remainingSeconds);
+    }
+}
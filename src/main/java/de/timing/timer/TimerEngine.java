@@ -0,0 +1,299 @@
+package de.timing.timer;
+
+import de.timing.Timing;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drives every countdown timer from a single global region task.
+ * Timers are registered as named definitions; running timers are kept in a
+ * priority queue ordered by deadline, so any number of concurrent timers costs
+ * one scheduler task in total. The task only exists while a timer is running.
+ *
+ * Each timer's state is an immutable TimerState published through an
+ * AtomicReference. Start, stop and expiry are compare-and-set transitions, so
+ * async readers (pre-login, server list ping) never need a lock and a start or
+ * stop racing a tick can never be overwritten by it.
+ */
+public class TimerEngine {
+
+    private final Logger logger;
+    private final Function<Runnable, ScheduledTask> tickStarter;
+    private final Map<String, TimerSlot> slots;
+    private final PriorityBlockingQueue<Deadline> deadlines;
+    private final List<Runnable> tickListeners;
+    private ScheduledTask tickTask;
+
+    public TimerEngine(Timing plugin) {
+        this(plugin.getLogger(), tick -> plugin.getServer().getGlobalRegionScheduler()
+                .runAtFixedRate(plugin, task -> tick.run(), 1, 20));
+    }
+
+    /**
+     * @param tickStarter Starts a task that runs the given tick once per second
+     */
+    TimerEngine(Logger logger, Function<Runnable, ScheduledTask> tickStarter) {
+        this.logger = logger;
+        this.tickStarter = tickStarter;
+        this.slots = new ConcurrentHashMap<>();
+        this.deadlines = new PriorityBlockingQueue<>(11, Comparator.comparingLong(Deadline::deadlineNanos));
+        this.tickListeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Register a timer definition. Replaces any definition with the same name.
+     */
+    public void register(TimerDefinition definition) {
+        slots.put(definition.getName(), new TimerSlot(definition));
+    }
+
+    /**
+     * Add a listener that runs once per engine tick while any timer is running.
+     */
+    public void addTickListener(Runnable listener) {
+        tickListeners.add(listener);
+    }
+
+    /**
+     * Start (or restart) a registered timer.
+     *
+     * @param name    Timer name
+     * @param seconds Duration in seconds
+     */
+    public void start(String name, int seconds) {
+        TimerSlot slot = getSlot(name);
+        TimerState next = transitionToRunning(slot.state, seconds);
+
+        discardReplaced(slot, next.revision());
+        deadlines.add(new Deadline(slot, next.revision(), next.deadlineNanos()));
+        ensureTicking();
+    }
+
+    /**
+     * Stop a timer without running its end action.
+     *
+     * @return true if the timer was running
+     */
+    public boolean stop(String name) {
+        TimerSlot slot = getSlot(name);
+        TimerState next = transitionToIdle(slot.state);
+        if (next == null) {
+            return false;
+        }
+        discardReplaced(slot, next.revision());
+        return true;
+    }
+
+    /**
+     * Get the current state snapshot of a timer. Safe to call from any thread.
+     */
+    public TimerState getState(String name) {
+        return getSlot(name).state.get();
+    }
+
+    public boolean isRunning(String name) {
+        return getState(name).isRunning();
+    }
+
+    public int getRemainingSeconds(String name) {
+        return getState(name).getRemainingSeconds();
+    }
+
+    /**
+     * Stop every timer and cancel the tick task.
+     */
+    public void shutdown() {
+        for (TimerSlot slot : slots.values()) {
+            stop(slot.definition.getName());
+        }
+        deadlines.clear();
+        synchronized (this) {
+            if (tickTask != null) {
+                tickTask.cancel();
+                tickTask = null;
+            }
+        }
+    }
+
+    /**
+     * Move a timer into a fresh running state, retrying until the CAS wins.
+     *
+     * @return The state that was published
+     */
+    private static TimerState transitionToRunning(AtomicReference<TimerState> state, int seconds) {
+        TimerState current;
+        TimerState next;
+        do {
+            current = state.get();
+            next = current.running(seconds);
+        } while (!state.compareAndSet(current, next));
+        return next;
+    }
+
+    /**
+     * Move a running timer to idle, retrying until the CAS wins.
+     *
+     * @return The state that was published, or null if the timer was not running
+     */
+    private static TimerState transitionToIdle(AtomicReference<TimerState> state) {
+        TimerState current;
+        TimerState next;
+        do {
+            current = state.get();
+            if (!current.isRunning()) {
+                return null;
+            }
+            next = current.idle();
+        } while (!state.compareAndSet(current, next));
+        return next;
+    }
+
+    private TimerSlot getSlot(String name) {
+        TimerSlot slot = slots.get(name);
+        if (slot == null) {
+            throw new IllegalArgumentException("Unknown timer: " + name);
+        }
+        return slot;
+    }
+
+    /**
+     * Remove the queue entries a restart or stop replaced, so the tick only ever
+     * looks at the head. An entry queued by a start racing this call is dropped
+     * once it reaches the head.
+     */
+    private void discardReplaced(TimerSlot slot, long revision) {
+        deadlines.removeIf(deadline -> deadline.slot() == slot && deadline.revision() < revision);
+    }
+
+    private synchronized void ensureTicking() {
+        if (tickTask == null) {
+            tickTask = tickStarter.apply(this::tick);
+        }
+    }
+
+    /**
+     * Cancel the tick task once nothing is queued. A concurrent start() queues
+     * its deadline before calling ensureTicking(), so it either keeps this task
+     * alive or schedules a new one.
+     */
+    private synchronized void cancelIfIdle() {
+        if (deadlines.isEmpty() && tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    /**
+     * One engine tick: expire timers whose deadline passed, run threshold and
+     * tick actions for the running ones, then notify tick listeners.
+     */
+    void tick() {
+        List<TimerSlot> ended = new ArrayList<>();
+
+        // Poll rather than peek-and-remove: a concurrent start() may queue an earlier deadline in between
+        Deadline head;
+        while ((head = deadlines.poll()) != null) {
+            TimerState current = head.slot().state.get();
+            if (current.revision() != head.revision()) {
+                continue; // replaced by a stop or restart
+            }
+            if (head.deadlineNanos() - System.nanoTime() > 0) {
+                deadlines.add(head);
+                break;
+            }
+            if (current.isRunning() && head.slot().state.compareAndSet(current, current.idle())) {
+                ended.add(head.slot());
+            }
+        }
+
+        for (TimerSlot slot : slots.values()) {
+            TimerState state = slot.state.get();
+            if (!state.isRunning()) {
+                continue;
+            }
+            TimerDefinition definition = slot.definition;
+            int announce = slot.pollThreshold(state, definition.getBroadcastThresholds());
+            if (announce > 0) {
+                runAction(definition, definition.getOnThreshold(), announce);
+            }
+            runAction(definition, definition.getOnTick(), state.getRemainingSeconds());
+        }
+
+        for (TimerSlot slot : ended) {
+            runAction(slot.definition, slot.definition.getOnEnd(), 0);
+        }
+
+        for (Runnable listener : tickListeners) {
+            listener.run();
+        }
+
+        cancelIfIdle();
+    }
+
+    private void runAction(TimerDefinition definition, TimerDefinition.TimerAction action, int remainingSeconds) {
+        if (action == null) {
+            return;
+        }
+        try {
+            action.run(definition, remainingSeconds);
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Error in timer " + definition.getName(), e);
+        }
+    }
+
+    /**
+     * Per-timer state holder. The threshold cursor is only touched by the tick task.
+     */
+    private static final class TimerSlot {
+
+        private final TimerDefinition definition;
+        private final AtomicReference<TimerState> state;
+        private long polledRevision = -1;
+        private int lastPolledSecond;
+
+        private TimerSlot(TimerDefinition definition) {
+            this.definition = definition;
+            this.state = new AtomicReference<>(TimerState.INITIAL);
+        }
+
+        /**
+         * Check which broadcast thresholds were crossed since the last poll.
+         * Thresholds missed during a lag spike are caught up here, collapsed into a
+         * single announcement of the actual remaining time.
+         *
+         * @return The remaining seconds to announce, or -1 if no threshold was crossed
+         */
+        private int pollThreshold(TimerState state, IntPredicate threshold) {
+            int now = state.getRemainingSeconds();
+            if (polledRevision != state.revision()) {
+                polledRevision = state.revision();
+                lastPolledSecond = now + 1;
+            }
+
+            boolean crossed = false;
+            for (int seconds = lastPolledSecond - 1; seconds >= now && seconds > 0; seconds--) {
+                if (threshold.test(seconds)) {
+                    crossed = true;
+                    break;
+                }
+            }
+            lastPolledSecond = Math.min(lastPolledSecond, now);
+            return crossed && now > 0 ? now : -1;
+        }
+    }
+
+    private record Deadline(TimerSlot slot, long revision, long deadlineNanos) {
+    }
+}
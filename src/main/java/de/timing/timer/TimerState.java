@@ -0,0 +1,61 @@
+package de.timing.timer;
+
+/**
+ * Immutable snapshot of a timer's state, published through an AtomicReference.
+ * Every transition creates a new snapshot with a higher revision, so readers on
+ * any thread see a consistent state with a single volatile read.
+ *
+ * @param phase         Whether the timer is idle or running
+ * @param deadlineNanos Absolute System.nanoTime() deadline (only meaningful while running)
+ * @param revision      Incremented on every transition
+ */
+public record TimerState(Phase phase, long deadlineNanos, long revision) {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public static final TimerState INITIAL = new TimerState(Phase.IDLE, 0L, 0L);
+
+    public enum Phase {
+        IDLE,
+        RUNNING
+    }
+
+    /**
+     * Create the running state that follows this one.
+     */
+    public TimerState running(int seconds) {
+        return new TimerState(Phase.RUNNING, System.nanoTime() + seconds * NANOS_PER_SECOND, revision + 1);
+    }
+
+    /**
+     * Create the idle state that follows this one.
+     */
+    public TimerState idle() {
+        return new TimerState(Phase.IDLE, 0L, revision + 1);
+    }
+
+    public boolean isRunning() {
+        return phase == Phase.RUNNING;
+    }
+
+    /**
+     * Check if the deadline has passed (always false while idle).
+     */
+    public boolean isExpired() {
+        return isRunning() && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Get the remaining whole seconds, rounded up (0 while idle or once expired).
+     */
+    public int getRemainingSeconds() {
+        if (!isRunning()) {
+            return 0;
+        }
+        long left = deadlineNanos - System.nanoTime();
+        if (left <= 0) {
+            return 0;
+        }
+        return (int) ((left + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+}
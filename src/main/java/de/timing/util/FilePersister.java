@@ -0,0 +1,223 @@
+package de.timing.util;
+
+import de.timing.Timing;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * Write-behind persistence for a plugin file (config.yml, the state store).
+ * Changes only mark the file dirty; the first change starts a virtual
+ * thread that waits a short window and then writes everything changed so
+ * far in one go, so a burst of edits (e.g. several GUI toggles) costs one
+ * write instead of one per change, and region threads never do file I/O.
+ * The file is written to a temp file and atomically renamed, so a crash
+ * mid-write never leaves a truncated file behind.
+ * <p>
+ * For files that are also edited by hand (config.yml), the persister can
+ * refuse to overwrite an edit it has not seen: if the file on disk no longer
+ * matches what was last written or acknowledged, the write is held back and
+ * the changes stay pending until the owner merges the file and calls
+ * {@link #acknowledge(long)}.
+ */
+public class FilePersister {
+
+    private static final long COALESCE_MILLIS = 1000L;
+    private static final long NO_FILE = -1L;
+
+    private final Timing plugin;
+    private final Path file;
+    private final Supplier<byte[]> serializer;
+    private final AtomicBoolean scheduled;
+    private final AtomicInteger pendingChanges;
+    private final AtomicLong writes;
+    private final AtomicLong coalesced;
+    private final Object writeLock;
+    private final boolean guardExternalEdits;
+    private volatile long lastWrittenChecksum;
+    private volatile long knownChecksum;
+    private long warnedChecksum;
+
+    /**
+     * @param serializer Produces the file content; must be safe to call from any thread
+     */
+    public FilePersister(Timing plugin, Path file, Supplier<byte[]> serializer) {
+        this(plugin, file, serializer, false);
+    }
+
+    /**
+     * @param serializer         Produces the file content; must be safe to call from any thread
+     * @param guardExternalEdits Never overwrite the file if it changed on disk since it was last
+     *                           written or acknowledged
+     */
+    public FilePersister(Timing plugin, Path file, Supplier<byte[]> serializer, boolean guardExternalEdits) {
+        this.plugin = plugin;
+        this.file = file;
+        this.serializer = serializer;
+        this.scheduled = new AtomicBoolean();
+        this.pendingChanges = new AtomicInteger();
+        this.writes = new AtomicLong();
+        this.coalesced = new AtomicLong();
+        this.writeLock = new Object();
+        this.guardExternalEdits = guardExternalEdits;
+        this.lastWrittenChecksum = -1L;
+        // The owner loaded the file just before creating the persister
+        this.knownChecksum = guardExternalEdits ? readChecksum() : NO_FILE;
+        this.warnedChecksum = NO_FILE;
+    }
+
+    /**
+     * Record a change and schedule a write if none is pending.
+     */
+    public void markDirty() {
+        pendingChanges.incrementAndGet();
+        if (scheduled.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("timing-writer-" + file.getFileName()).start(this::writeBehind);
+        }
+    }
+
+    /**
+     * Write pending changes now, on the calling thread.
+     */
+    public void flush() {
+        write();
+    }
+
+    public boolean isDirty() {
+        return pendingChanges.get() > 0;
+    }
+
+    /**
+     * Run an action while no write can start, e.g. to swap the object the
+     * serializer reads. The action may call {@link #flush()}.
+     */
+    public <T> T runExclusive(Supplier<T> action) {
+        synchronized (writeLock) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Record that the owner has loaded (and merged) the file with this checksum,
+     * so it may be overwritten again. Call inside {@link #runExclusive(Supplier)}
+     * together with the swap of the merged content.
+     *
+     * @return true if the file had been changed by someone else since it was last written or acknowledged
+     */
+    public boolean acknowledge(long checksum) {
+        boolean external = checksum != knownChecksum;
+        knownChecksum = checksum;
+        return external;
+    }
+
+    /**
+     * CRC32 of the content last written, or -1 if nothing was written yet.
+     * Lets file watchers recognize this persister's own writes.
+     */
+    public long getLastWrittenChecksum() {
+        return lastWrittenChecksum;
+    }
+
+    /**
+     * Number of times the file has been written.
+     */
+    public long getWriteCount() {
+        return writes.get();
+    }
+
+    /**
+     * Number of changes that were folded into another change's write.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    private void writeBehind() {
+        try {
+            Thread.sleep(COALESCE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduled.set(false);
+        write();
+    }
+
+    private void write() {
+        synchronized (writeLock) {
+            int changes = pendingChanges.getAndSet(0);
+            if (changes == 0) {
+                return;
+            }
+
+            if (guardExternalEdits) {
+                long onDisk = readChecksum();
+                if (onDisk != NO_FILE && onDisk != knownChecksum) {
+                    // Edited by hand since it was loaded: keep the changes pending until it is merged
+                    pendingChanges.addAndGet(changes);
+                    if (warnedChecksum != onDisk) {
+                        warnedChecksum = onDisk;
+                        plugin.getLogger().warning(file.getFileName() + " was changed on disk, not overwriting it;"
+                                + " in-game changes are kept until it is reloaded");
+                    }
+                    return;
+                }
+            }
+
+            try {
+                byte[] content = serializer.get();
+                lastWrittenChecksum = checksum(content);
+                writeAtomically(content);
+                knownChecksum = lastWrittenChecksum;
+            } catch (IOException e) {
+                // Keep the changes pending, so the next change or flush retries
+                pendingChanges.addAndGet(changes);
+                plugin.getLogger().log(Level.SEVERE, "Failed to save " + file.getFileName(), e);
+                return;
+            }
+
+            writes.incrementAndGet();
+            coalesced.addAndGet(changes - 1);
+            if (plugin.getConfigManager().isDebug()) {
+                plugin.getLogger().info("Saved " + file.getFileName() + " (" + changes + " changes)");
+            }
+        }
+    }
+
+    private long readChecksum() {
+        try {
+            return checksum(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return NO_FILE;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not read " + file.getFileName(), e);
+            return NO_FILE;
+        }
+    }
+
+    public static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    private void writeAtomically(byte[] content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, content);
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
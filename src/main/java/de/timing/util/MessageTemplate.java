@@ -0,0 +1,310 @@
+package de.timing.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A MiniMessage string compiled once into a component tree with placeholder slots.
+ * Rendering only fills in the slots instead of re-parsing the whole string.
+ *
+ * Slots are swapped for private-use marker text before parsing, so they end up as
+ * plain text leaves that keep the style around them. If a slot does not survive
+ * parsing as a single leaf (e.g. inside a gradient or rainbow, which color text per
+ * character and so depend on the value's length), the template is re-parsed for
+ * every render. This is the known slow path: the slots are turned into tags once,
+ * and each render parses that source with the values as unparsed placeholders.
+ * <p>
+ * Values are always inserted as literal text on both paths, so a value that
+ * contains MiniMessage tags (e.g. a player name) can never inject formatting.
+ *
+ * Templates can be partially bound: {@link #bind(Map)} fills the shared slots
+ * (e.g. online count, timer remaining) once and keeps the per-player slots, so
+ * only those leaves are rendered per recipient.
+ */
+public final class MessageTemplate {
+
+    /**
+     * Placeholder slots supported in templates.
+     */
+    public enum Slot {
+        TIME("{time}"),
+        PLAYER("{player}"),
+        ONLINE("{online}"),
+        POSITION("{position}"),
+        WORLD("{world}"),
+        BEGINNING("{beginning}"),
+        RESTART("{restart}"),
+        END("{end}");
+
+        private final String token;
+
+        Slot(String token) {
+            this.token = token;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final String[] TAG_NAMES = new String[SLOTS.length];
+    private static final char MARKER_START = '\uE000';
+    private static final char MARKER_END = '\uE001';
+    private static final Pattern MARKER_PATTERN = Pattern.compile(MARKER_START + "(\\d+)" + MARKER_END);
+
+    static {
+        for (Slot slot : SLOTS) {
+            TAG_NAMES[slot.ordinal()] = "timing_" + slot.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final MessageTemplate EMPTY = new MessageTemplate("", Component.empty(), false, false,
+            new boolean[SLOTS.length], null, null);
+
+    private final String source;
+    private final Component compiled;
+    private final boolean hasSlots;
+    private final boolean inline;
+    private final boolean[] present;
+    // Slow path only: the source with slots as placeholder tags, and the values bound so far
+    private final String tagged;
+    private final String[] boundValues;
+
+    private MessageTemplate(String source, Component compiled, boolean hasSlots, boolean inline, boolean[] present,
+            String tagged, String[] boundValues) {
+        this.source = source;
+        this.compiled = compiled;
+        this.hasSlots = hasSlots;
+        this.inline = inline;
+        this.present = present;
+        this.tagged = tagged;
+        this.boundValues = boundValues;
+    }
+
+    /**
+     * Compile a MiniMessage string into a template.
+     */
+    public static MessageTemplate compile(String source) {
+        if (source == null || source.isEmpty()) {
+            return EMPTY;
+        }
+
+        String marked = source;
+        int expected = 0;
+        boolean[] present = new boolean[SLOTS.length];
+        for (Slot slot : SLOTS) {
+            int count = countOccurrences(source, slot.getToken());
+            if (count > 0) {
+                expected += count;
+                present[slot.ordinal()] = true;
+                marked = marked.replace(slot.getToken(), "" + MARKER_START + slot.ordinal() + MARKER_END);
+            }
+        }
+
+        if (expected == 0) {
+            return new MessageTemplate(source, MessageUtil.parse(source), false, false, present, null, null);
+        }
+
+        Component compiled = MessageUtil.parse(marked);
+        int[] found = new int[2];
+        countMarkers(compiled, found);
+        if (found[0] == expected && found[1] == expected) {
+            return new MessageTemplate(source, compiled, true, true, present, null, null);
+        }
+
+        String tagged = source;
+        for (Slot slot : SLOTS) {
+            if (present[slot.ordinal()]) {
+                tagged = tagged.replace(slot.getToken(), "<" + TAG_NAMES[slot.ordinal()] + ">");
+            }
+        }
+        return new MessageTemplate(source, null, true, false, present, tagged, new String[SLOTS.length]);
+    }
+
+    /**
+     * Fill in the given slots and keep all others, e.g. to render shared
+     * values once per broadcast before rendering per-player values.
+     */
+    public MessageTemplate bind(Map<Slot, String> slotValues) {
+        boolean[] remaining = present.clone();
+        boolean changed = false;
+        String[] values = new String[SLOTS.length];
+        for (Map.Entry<Slot, String> entry : slotValues.entrySet()) {
+            int index = entry.getKey().ordinal();
+            if (present[index]) {
+                values[index] = entry.getValue() == null ? "" : entry.getValue();
+                remaining[index] = false;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return this;
+        }
+
+        String boundSource = source;
+        boolean anyRemaining = false;
+        for (Slot slot : SLOTS) {
+            String value = values[slot.ordinal()];
+            if (value != null) {
+                boundSource = boundSource.replace(slot.getToken(), value);
+            }
+            anyRemaining |= remaining[slot.ordinal()];
+        }
+
+        if (!inline) {
+            String[] merged = boundValues.clone();
+            for (int i = 0; i < merged.length; i++) {
+                if (values[i] != null) {
+                    merged[i] = values[i];
+                }
+            }
+            if (!anyRemaining) {
+                // Fully bound: parse once and share the result
+                return new MessageTemplate(boundSource, parseTagged(merged), false, false, remaining, null, null);
+            }
+            return new MessageTemplate(boundSource, null, true, false, remaining, tagged, merged);
+        }
+
+        Component bound = compiled.replaceText(builder -> builder
+                .match(MARKER_PATTERN)
+                .replacement((match, text) -> {
+                    String value = values[Integer.parseInt(match.group(1))];
+                    return value == null ? text : text.content(value);
+                }));
+        return new MessageTemplate(boundSource, bound, anyRemaining, true, remaining, null, null);
+    }
+
+    /**
+     * Check if the template contains a slot.
+     */
+    public boolean uses(Slot slot) {
+        return present[slot.ordinal()];
+    }
+
+    /**
+     * Whether the template contains slots that differ per recipient ({player}, {world}).
+     */
+    public boolean isPerPlayer() {
+        return uses(Slot.PLAYER) || uses(Slot.WORLD);
+    }
+
+    public boolean hasSlots() {
+        return hasSlots;
+    }
+
+    /**
+     * Render the template with all slots left empty.
+     */
+    public Component render() {
+        return hasSlots ? render(new String[SLOTS.length]) : compiled;
+    }
+
+    /**
+     * Render the template with a single slot filled in.
+     */
+    public Component render(Slot slot, String value) {
+        if (!hasSlots) {
+            return compiled;
+        }
+        String[] values = new String[SLOTS.length];
+        values[slot.ordinal()] = value;
+        return render(values);
+    }
+
+    /**
+     * Render the template with the given slot values.
+     */
+    public Component render(Map<Slot, String> slotValues) {
+        if (!hasSlots) {
+            return compiled;
+        }
+        String[] values = new String[SLOTS.length];
+        for (Map.Entry<Slot, String> entry : slotValues.entrySet()) {
+            values[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return render(values);
+    }
+
+    /**
+     * Render the template with the time slot filled in.
+     */
+    public Component renderWithTime(int seconds) {
+        return render(Slot.TIME, MessageUtil.formatTime(seconds));
+    }
+
+    private Component render(String[] values) {
+        if (!inline) {
+            String[] merged = boundValues.clone();
+            for (int i = 0; i < merged.length; i++) {
+                if (values[i] != null) {
+                    merged[i] = values[i];
+                }
+            }
+            return parseTagged(merged);
+        }
+
+        return compiled.replaceText(builder -> builder
+                .match(MARKER_PATTERN)
+                .replacement((match, text) -> {
+                    String value = values[Integer.parseInt(match.group(1))];
+                    return text.content(value == null ? "" : value);
+                }));
+    }
+
+    /**
+     * Slow path: parse the tagged source with every value as an unparsed placeholder.
+     */
+    private Component parseTagged(String[] values) {
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (int i = 0; i < values.length; i++) {
+            resolvers.resolver(Placeholder.unparsed(TAG_NAMES[i], values[i] == null ? "" : values[i]));
+        }
+        return MessageUtil.parse(tagged, resolvers.build());
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Whether rendering only fills in slots (true) or has to re-parse (false).
+     */
+    public boolean isInline() {
+        return inline || !hasSlots;
+    }
+
+    /**
+     * Count intact markers (found[0]) and marker start characters (found[1]).
+     */
+    private static void countMarkers(Component component, int[] found) {
+        if (component instanceof TextComponent text) {
+            String content = text.content();
+            Matcher matcher = MARKER_PATTERN.matcher(content);
+            while (matcher.find()) {
+                found[0]++;
+            }
+            found[1] += countOccurrences(content, String.valueOf(MARKER_START));
+        }
+        for (Component child : component.children()) {
+            countMarkers(child, found);
+        }
+    }
+
+    private static int countOccurrences(String text, String token) {
+        int count = 0;
+        int index = text.indexOf(token);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(token, index + token.length());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,82 @@
+package de.timing;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Minimal timing and allocation measurement for the benchmark tests.
+ * Benchmarks are tagged {@link #TAG} and only run with {@code mvn test -Pbenchmark}.
+ *
+ * Each measurement warms up first, then reports the median of several rounds.
+ * Results are written to a volatile sink so the JIT cannot drop the work.
+ */
+public final class Benchmark {
+
+    public static final String TAG = "benchmark";
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    private static volatile Object sink;
+
+    private Benchmark() {
+    }
+
+    /**
+     * Measure the median time per operation.
+     *
+     * @param operations Operations per round
+     * @return Nanoseconds per operation
+     */
+    public static double nanosPerOp(int operations, Supplier<?> op) {
+        double[] rounds = new double[ROUNDS];
+        for (int round = -WARMUP_ROUNDS; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < operations; i++) {
+                sink = op.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= 0) {
+                rounds[round] = (double) elapsed / operations;
+            }
+        }
+        return median(rounds);
+    }
+
+    /**
+     * Measure the median heap allocation per operation on the calling thread.
+     *
+     * @param operations Operations per round
+     * @return Bytes allocated per operation
+     */
+    public static double bytesPerOp(int operations, Supplier<?> op) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        double[] rounds = new double[ROUNDS];
+        for (int round = -WARMUP_ROUNDS; round < ROUNDS; round++) {
+            long start = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < operations; i++) {
+                sink = op.get();
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - start;
+            if (round >= 0) {
+                rounds[round] = (double) allocated / operations;
+            }
+        }
+        return median(rounds);
+    }
+
+    /**
+     * Print a baseline/candidate comparison.
+     */
+    public static void report(String name, String unit, double baseline, double candidate) {
+        System.out.printf("[benchmark] %s: baseline %.1f %s, candidate %.1f %s (%.1fx)%n",
+                name, baseline, unit, candidate, unit, candidate > 0 ? baseline / candidate : Double.POSITIVE_INFINITY);
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,139 @@
+package de.timing;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stand-in players and worlds for tests that run without a server.
+ * Only identity getters are answered; everything else returns a default value.
+ * Anything sent or shown to a player, and the kick message, is recorded in its inbox.
+ */
+public final class TestPlayers {
+
+    private static final Map<Player, List<Object>> INBOXES = new HashMap<>();
+
+    private TestPlayers() {
+    }
+
+    public static World world(String name) {
+        return proxy(World.class, Map.of("getName", name, "getUID", UUID.nameUUIDFromBytes(name.getBytes())), null);
+    }
+
+    public static Player player(String name, World world) {
+        return player(name, world, true);
+    }
+
+    /**
+     * Create players named prefix0..prefix(count-1), spread round-robin over the worlds.
+     */
+    public static List<Player> players(String prefix, int count, World... worlds) {
+        return players(prefix, count, true, worlds);
+    }
+
+    /**
+     * Like {@link #players(String, int, World...)}, but nothing is recorded, so
+     * sends do not allocate beyond the proxy call itself (for allocation benchmarks).
+     */
+    public static List<Player> silentPlayers(String prefix, int count, World... worlds) {
+        return players(prefix, count, false, worlds);
+    }
+
+    private static List<Player> players(String prefix, int count, boolean record, World... worlds) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(player(prefix + i, worlds[i % worlds.length], record));
+        }
+        return players;
+    }
+
+    private static Player player(String name, World world, boolean record) {
+        List<Object> inbox = record ? new ArrayList<>() : null;
+        Player player = proxy(Player.class, Map.of(
+                "getName", name,
+                "getUniqueId", UUID.nameUUIDFromBytes(name.getBytes()),
+                "getWorld", world,
+                "isOnline", true), inbox);
+        if (record) {
+            synchronized (INBOXES) {
+                INBOXES.put(player, inbox);
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Get everything sent to a player (messages, action bars, titles, kick message) in order.
+     */
+    public static List<Object> inbox(Player player) {
+        synchronized (INBOXES) {
+            return INBOXES.get(player);
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, Map<String, Object> answers, List<Object> inbox) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "[" + answers.get("getName") + "]";
+                default:
+                    break;
+            }
+            Object answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer;
+            }
+            if (inbox != null && args != null && args.length == 1 && isDelivery(method)) {
+                synchronized (inbox) {
+                    inbox.add(args[0]);
+                }
+            }
+            return defaultValue(method.getReturnType());
+        }));
+    }
+
+    private static boolean isDelivery(Method method) {
+        String name = method.getName();
+        return name.equals("sendMessage") || name.equals("sendActionBar") || name.equals("showTitle")
+                || name.equals("kick");
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
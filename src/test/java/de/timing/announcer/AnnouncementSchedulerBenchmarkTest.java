@@ -0,0 +1,121 @@
+package de.timing.announcer;
+
+import de.timing.Benchmark;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost of the single-task announcement scheduler with a 10k-announcement
+ * catalog: per-tick driver cost against one fixed-rate task per announcement
+ * (simulated as the per-tick countdown scan the server scheduler does for
+ * each task), and reschedule cost at 1k vs 10k entries.
+ */
+@Tag(Benchmark.TAG)
+class AnnouncementSchedulerBenchmarkTest {
+
+    private static final int ANNOUNCEMENTS = 10_000;
+    private static final int TICKS = 1_000;
+
+    private Runnable driver;
+    private final Map<String, Integer> fired = new HashMap<>();
+
+    @Test
+    void driverTickBeatsOneTaskPerAnnouncement() {
+        long[] intervals = intervals(ANNOUNCEMENTS);
+        AnnouncementScheduler scheduler = scheduler(intervals);
+        assertEquals(ANNOUNCEMENTS, scheduler.size());
+        assertNotNull(driver);
+
+        double single = Benchmark.nanosPerOp(TICKS, () -> {
+            driver.run();
+            return driver;
+        });
+
+        long[] countdowns = intervals.clone();
+        int[] perTask = {0};
+        double perAnnouncement = Benchmark.nanosPerOp(TICKS, () -> {
+            for (int i = 0; i < countdowns.length; i++) {
+                if (--countdowns[i] <= 0) {
+                    countdowns[i] = intervals[i];
+                    perTask[0]++;
+                }
+            }
+            return perTask;
+        });
+
+        Benchmark.report("10k announcements, cost per tick", "ns", perAnnouncement, single);
+        assertTrue(single < perAnnouncement, "driver tick (" + single + " ns) should beat a per-task scan ("
+                + perAnnouncement + " ns)");
+
+        // Every announcement fired once per interval over the simulated ticks
+        long elapsed = scheduler.getCurrentTick();
+        for (int i = 0; i < ANNOUNCEMENTS; i++) {
+            int expected = (int) (elapsed / intervals[i]);
+            int actual = fired.getOrDefault("tip-" + i, 0);
+            assertTrue(actual >= expected - 1 && actual <= expected + 1,
+                    "tip-" + i + " fired " + actual + " times, expected about " + expected);
+        }
+    }
+
+    @Test
+    void rescheduleStaysLogarithmic() {
+        double small = rescheduleCost(1_000);
+        double large = rescheduleCost(ANNOUNCEMENTS);
+        Benchmark.report("reschedule, 1k vs 10k entries", "ns/op", small, large);
+
+        // O(log n): 10x the entries should cost far less than 10x per operation
+        assertTrue(large < small * 4, "reschedule at 10k (" + large + " ns) vs 1k (" + small + " ns)");
+    }
+
+    private double rescheduleCost(int count) {
+        long[] intervals = intervals(count);
+        AnnouncementScheduler scheduler = scheduler(intervals);
+        int[] next = {0};
+        return Benchmark.nanosPerOp(10_000, () -> {
+            int i = next[0]++ % count;
+            scheduler.schedule("tip-" + i, intervals[i], 0);
+            return scheduler;
+        });
+    }
+
+    private AnnouncementScheduler scheduler(long[] intervals) {
+        AnnouncementScheduler scheduler = new AnnouncementScheduler(null,
+                name -> fired.merge(name, 1, Integer::sum),
+                task -> {
+                    driver = task;
+                    return stubTask();
+                });
+        for (int i = 0; i < intervals.length; i++) {
+            scheduler.schedule("tip-" + i, intervals[i], 0);
+        }
+        scheduler.rebalance();
+        return scheduler;
+    }
+
+    /**
+     * Intervals between 30 seconds and one hour, in ticks.
+     */
+    private static long[] intervals(int count) {
+        Random random = new Random(42);
+        long[] intervals = new long[count];
+        for (int i = 0; i < count; i++) {
+            intervals[i] = 20L * (30 + random.nextInt(3_571));
+        }
+        return intervals;
+    }
+
+    private static ScheduledTask stubTask() {
+        return (ScheduledTask) Proxy.newProxyInstance(ScheduledTask.class.getClassLoader(),
+                new Class<?>[]{ScheduledTask.class}, (proxy, method, args) -> null);
+    }
+}
@@ -0,0 +1,117 @@
+package de.timing.announcer;
+
+import de.timing.Benchmark;
+import de.timing.config.ConfigManager;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost of hot-reloading a 2,000-announcement catalog in which one
+ * announcement changed. Parsing and compiling run on the watcher thread; what
+ * the global region thread can feel is the time the scheduler is held, which
+ * is compared between a full reschedule (the old reload) and the diff-based
+ * apply.
+ */
+@Tag(Benchmark.TAG)
+class CatalogReloadBenchmarkTest {
+
+    private static final int ANNOUNCEMENTS = 2_000;
+    private static final long TICK_NANOS = 50_000_000L;
+
+    @Test
+    void diffApplyOfLargeCatalogStaysFarBelowOneTick() {
+        String original = catalog(-1);
+        String edited = catalog(ANNOUNCEMENTS / 2);
+
+        // Off-thread part: parse config.yml and compile every announcement
+        double parseAndCompile = Benchmark.nanosPerOp(1, () -> {
+            AnnouncementRegistry registry = new AnnouncementRegistry();
+            Map<String, Announcement> loaded = read(original);
+            registry.update(editor -> loaded.values().forEach(editor::putAnnouncement));
+            return registry;
+        });
+
+        AnnouncementRegistry registry = new AnnouncementRegistry();
+        Map<String, Announcement> loaded = read(original);
+        registry.update(editor -> loaded.values().forEach(editor::putAnnouncement));
+        AnnouncementScheduler scheduler = scheduler();
+        loaded.values().forEach(announcement -> schedule(scheduler, announcement));
+        Map<String, Announcement> reloaded = read(edited);
+
+        Set<String> changed = AnnouncerManager.diff(registry.snapshot().announcements(), reloaded);
+        assertEquals(Set.of("tip-" + ANNOUNCEMENTS / 2), changed);
+
+        // Previous reload: clear the scheduler and reschedule the whole catalog
+        double fullReschedule = Benchmark.nanosPerOp(1, () -> {
+            scheduler.clear();
+            reloaded.values().forEach(announcement -> schedule(scheduler, announcement));
+            scheduler.rebalance();
+            return scheduler;
+        });
+
+        // Diff-based apply: find the changed entries, recompile and reschedule only those
+        double diffApply = Benchmark.nanosPerOp(1, () -> {
+            Set<String> names = AnnouncerManager.diff(loaded, reloaded);
+            registry.update(editor -> names.forEach(name -> editor.putAnnouncement(reloaded.get(name))));
+            names.forEach(name -> schedule(scheduler, reloaded.get(name)));
+            return names;
+        });
+
+        System.out.printf("[benchmark] 2,000-announcement catalog: parse + compile %.1f ms (watcher thread)%n",
+                parseAndCompile / 1_000_000);
+        Benchmark.report("2,000-announcement reload, apply cost", "ns", fullReschedule, diffApply);
+
+        assertEquals(ANNOUNCEMENTS, scheduler.size());
+        assertTrue(diffApply < fullReschedule);
+        assertTrue(diffApply < TICK_NANOS / 10, "diff apply took " + diffApply / 1_000_000 + " ms");
+    }
+
+    private static Map<String, Announcement> read(String yaml) {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(yaml);
+        } catch (InvalidConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        return ConfigManager.readAnnouncements(config);
+    }
+
+    /**
+     * Build a config.yml with the announcement catalog.
+     *
+     * @param edited Index of the announcement whose message differs, or -1
+     */
+    private static String catalog(int edited) {
+        StringBuilder yaml = new StringBuilder("announcements:\n");
+        for (int i = 0; i < ANNOUNCEMENTS; i++) {
+            String type = i % 3 == 0 ? "TITLE" : "ACTION_BAR";
+            String text = i == edited ? "Updated tip" : "Tip number " + i;
+            yaml.append("  tip-").append(i).append(":\n")
+                    .append("    message: \"<gradient:gold:yellow>").append(text).append("</gradient> <gray>{online} online\"\n")
+                    .append("    type: ").append(type).append('\n')
+                    .append("    subtitle: \"<gray>Have fun, {player}!</gray>\"\n")
+                    .append("    interval: ").append(60 + i % 600).append('\n')
+                    .append("    enabled: true\n");
+        }
+        return yaml.toString();
+    }
+
+    private static void schedule(AnnouncementScheduler scheduler, Announcement announcement) {
+        scheduler.schedule(announcement.getName(), announcement.getInterval() * 20L, announcement.getJitter() * 20L);
+    }
+
+    private static AnnouncementScheduler scheduler() {
+        return new AnnouncementScheduler(null, name -> { }, driver -> (ScheduledTask) Proxy.newProxyInstance(
+                ScheduledTask.class.getClassLoader(), new Class<?>[]{ScheduledTask.class}, (proxy, method, args) -> null));
+    }
+}
@@ -0,0 +1,76 @@
+package de.timing.announcer;
+
+import de.timing.Benchmark;
+import de.timing.TestPlayers;
+import de.timing.broadcast.Deliverable;
+import de.timing.util.MessageUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allocation of one title broadcast to 500 players: the previous path, which
+ * parsed the subtitle and built Title.Times per recipient, against a
+ * CompiledAnnouncement whose payload is prebuilt and shared.
+ */
+@Tag(Benchmark.TAG)
+class CompiledAnnouncementBenchmarkTest {
+
+    private static final int RECIPIENTS = 500;
+    private static final int BROADCASTS = 50;
+
+    @Test
+    void titleBroadcastAllocatesLessPerRecipient() {
+        Announcement announcement = new Announcement("welcome",
+                "<gradient:gold:yellow>Welcome to the server!</gradient>", AnnouncementType.TITLE);
+        announcement.setSubtitle("<gray>Have fun and be nice</gray>");
+        CompiledAnnouncement compiled = CompiledAnnouncement.compile(announcement);
+        List<Player> players = TestPlayers.silentPlayers("player", RECIPIENTS, TestPlayers.world("world"));
+
+        // Cost of the stand-in players themselves (proxy argument arrays), subtracted from both paths
+        Title prebuilt = Title.title(Component.empty(), Component.empty());
+        double sendOnly = Benchmark.bytesPerOp(BROADCASTS, () -> {
+            for (Player player : players) {
+                player.showTitle(prebuilt);
+            }
+            return prebuilt;
+        });
+
+        double before = Benchmark.bytesPerOp(BROADCASTS, () -> {
+            Component message = MessageUtil.parse(announcement.getMessage());
+            for (Player player : players) {
+                Component subtitle = MessageUtil.parse(announcement.getSubtitle());
+                Title.Times times = Title.Times.times(
+                    Duration.ofMillis(announcement.getFadeIn() * 50L),
+                    Duration.ofMillis(announcement.getStay() * 50L),
+                    Duration.ofMillis(announcement.getFadeOut() * 50L)
+                );
+                player.showTitle(Title.title(message, subtitle, times));
+            }
+            return message;
+        });
+
+        double after = Benchmark.bytesPerOp(BROADCASTS, () -> {
+            Deliverable payload = compiled.createPayload(Map.of());
+            for (Player player : players) {
+                payload.deliver(player);
+            }
+            return payload;
+        });
+
+        double beforePerRecipient = Math.max(0, before - sendOnly) / RECIPIENTS;
+        double afterPerRecipient = Math.max(0, after - sendOnly) / RECIPIENTS;
+        Benchmark.report("title broadcast allocation per recipient", "B", beforePerRecipient, afterPerRecipient);
+
+        assertTrue(afterPerRecipient < beforePerRecipient, "compiled broadcast allocated " + afterPerRecipient
+                + " B per recipient, the per-recipient parse " + beforePerRecipient + " B");
+    }
+}
@@ -0,0 +1,88 @@
+package de.timing.broadcast;
+
+import de.timing.Benchmark;
+import de.timing.TestPlayers;
+import de.timing.util.MessageTemplate;
+import de.timing.util.MessageUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-recipient cost of a chat broadcast with {player}, {world} and {online}
+ * placeholders to 400 players: a PersonalizedPayload, which binds the shared
+ * values once and renders only the per-player leaves, against a full
+ * replace-and-parse per player.
+ */
+@Tag(Benchmark.TAG)
+class PersonalizedPayloadBenchmarkTest {
+
+    private static final int RECIPIENTS = 400;
+    private static final int BROADCASTS = 20;
+
+    private static final String MESSAGE = "<gray>[<gradient:gold:yellow>Timing</gradient>]</gray> "
+            + "<yellow>Welcome <white>{player}</white> to <aqua>{world}</aqua>!</yellow> <gray>{online} online</gray>";
+
+    private final World[] worlds = {TestPlayers.world("world"), TestPlayers.world("world_nether")};
+
+    @Test
+    void rendersTheSameTextAsAFullParse() {
+        MessageTemplate template = MessageUtil.compile(MESSAGE);
+        assertTrue(template.isInline(), "placeholders outside the gradient should render without re-parsing");
+
+        List<Player> players = TestPlayers.players("check", 10, worlds);
+        broadcast(template, players);
+        for (Player player : players) {
+            List<Object> inbox = TestPlayers.inbox(player);
+            assertEquals(1, inbox.size());
+            assertEquals(plain(naive(player)), plain((Component) inbox.get(0)));
+        }
+    }
+
+    @Test
+    void perPlayerRenderIsCheaperThanPerPlayerParse() {
+        MessageTemplate template = MessageUtil.compile(MESSAGE);
+        List<Player> players = TestPlayers.silentPlayers("player", RECIPIENTS, worlds);
+
+        double parse = Benchmark.nanosPerOp(BROADCASTS, () -> {
+            for (Player player : players) {
+                player.sendMessage(naive(player));
+            }
+            return players;
+        }) / RECIPIENTS;
+        double render = Benchmark.nanosPerOp(BROADCASTS, () -> broadcast(template, players)) / RECIPIENTS;
+
+        Benchmark.report("personalized chat, cost per recipient", "ns", parse, render);
+        assertTrue(render < parse, "template render (" + render + " ns) should beat a per-player parse ("
+                + parse + " ns)");
+    }
+
+    private static Deliverable broadcast(MessageTemplate template, List<Player> players) {
+        MessageTemplate bound = template.bind(Map.of(MessageTemplate.Slot.ONLINE, String.valueOf(RECIPIENTS)));
+        Deliverable payload = PersonalizedPayload.chat(bound);
+        for (Player player : players) {
+            payload.deliver(player);
+        }
+        return payload;
+    }
+
+    private static Component naive(Player player) {
+        return MessageUtil.parse(MESSAGE
+                .replace("{player}", player.getName())
+                .replace("{world}", player.getWorld().getName())
+                .replace("{online}", String.valueOf(RECIPIENTS)));
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}
@@ -0,0 +1,68 @@
+package de.timing.timer;
+
+import org.bukkit.entity.Player;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory stand-in for the proxy. Receives the same "Connect" plugin
+ * message the BungeeCordTransport sends and records the decoded transfer
+ * instead of moving the player. Can be switched to unreachable to exercise
+ * the drain's kick fallback.
+ */
+final class LocalProxyTransport implements ProxyTransport {
+
+    private final List<Transfer> transfers;
+    private volatile boolean reachable;
+
+    LocalProxyTransport() {
+        this.transfers = new CopyOnWriteArrayList<>();
+        this.reachable = true;
+    }
+
+    @Override
+    public void connect(Player player, String server) {
+        if (!reachable) {
+            throw new IllegalStateException("Proxy is not reachable");
+        }
+        receive(player.getUniqueId(), BungeeCordTransport.createConnectMessage(server));
+    }
+
+    /**
+     * Decode a plugin message the way the proxy would.
+     */
+    private void receive(UUID player, byte[] message) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            String subchannel = in.readUTF();
+            if (!subchannel.equals("Connect")) {
+                throw new IllegalArgumentException("Unexpected subchannel: " + subchannel);
+            }
+            transfers.add(new Transfer(player, in.readUTF()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the transfers received so far, in order.
+     */
+    List<Transfer> getTransfers() {
+        return List.copyOf(transfers);
+    }
+
+    void setReachable(boolean reachable) {
+        this.reachable = reachable;
+    }
+
+    /**
+     * A player the proxy was asked to move.
+     */
+    record Transfer(UUID player, String server) {
+    }
+}
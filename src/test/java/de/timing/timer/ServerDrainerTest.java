@@ -0,0 +1,135 @@
+package de.timing.timer;
+
+import de.timing.TestPlayers;
+import de.timing.broadcast.SectionTracker.SectionKey;
+import net.kyori.adventure.text.Component;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drains stand-in players through a LocalProxyTransport.
+ */
+class ServerDrainerTest {
+
+    private static final Component FALLBACK_KICK = Component.text("Server is restarting");
+
+    private final World world = TestPlayers.world("world");
+    private final Logger logger = Logger.getLogger(ServerDrainerTest.class.getName());
+
+    @Test
+    void playersAreSplitIntoBatchesOverTheWindow() {
+        List<Player> players = TestPlayers.players("player", 50, world);
+        SectionKey spawn = new SectionKey(world, 0, 0);
+        List<ServerDrainer.Batch> batches = ServerDrainer.planBatches(players, player -> spawn, 10);
+
+        assertEquals(10, batches.size());
+        List<Player> planned = new ArrayList<>();
+        long previousDelay = 0;
+        for (ServerDrainer.Batch batch : batches) {
+            assertEquals(5, batch.players().size());
+            assertEquals(spawn, batch.section());
+            assertTrue(batch.delayTicks() > previousDelay, "batches must run on distinct, increasing ticks");
+            assertTrue(batch.delayTicks() <= 10, "batch scheduled after the window");
+            previousDelay = batch.delayTicks();
+            planned.addAll(batch.players());
+        }
+        assertEquals(players, planned);
+    }
+
+    @Test
+    void fewPlayersAreSpreadAcrossTheWholeWindow() {
+        List<ServerDrainer.Batch> batches = ServerDrainer.planBatches(TestPlayers.players("player", 5, world),
+                player -> null, 100);
+
+        assertEquals(List.of(1L, 21L, 41L, 61L, 81L), batches.stream().map(ServerDrainer.Batch::delayTicks).toList());
+        batches.forEach(batch -> assertEquals(1, batch.players().size()));
+    }
+
+    @Test
+    void batchesKeepEachSectionTogether() {
+        List<Player> players = TestPlayers.players("player", 30, world);
+        List<SectionKey> sections = List.of(new SectionKey(world, 0, 0), new SectionKey(world, 1, 0),
+                new SectionKey(world, 0, 1));
+        // Round-robin, so the online list interleaves the sections
+        Map<Player, SectionKey> sectionOf = new HashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            sectionOf.put(players.get(i), sections.get(i % sections.size()));
+        }
+
+        List<ServerDrainer.Batch> batches = ServerDrainer.planBatches(players, sectionOf::get, 6);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), batches.stream().map(ServerDrainer.Batch::delayTicks).toList());
+        Set<SectionKey> finished = new HashSet<>();
+        SectionKey current = null;
+        int planned = 0;
+        for (ServerDrainer.Batch batch : batches) {
+            assertEquals(5, batch.players().size());
+            for (Player player : batch.players()) {
+                assertEquals(batch.section(), sectionOf.get(player), "batch mixes sections");
+            }
+            if (!batch.section().equals(current)) {
+                assertTrue(current == null || finished.add(current));
+                assertFalse(finished.contains(batch.section()), "section split over non-adjacent batches");
+                current = batch.section();
+            }
+            planned += batch.players().size();
+        }
+        assertEquals(players.size(), planned);
+    }
+
+    @Test
+    void everyPlayerIsMovedToTheTargetServer() {
+        LocalProxyTransport proxy = new LocalProxyTransport();
+        ServerDrainer drainer = new ServerDrainer(null, logger, proxy);
+        List<Player> players = TestPlayers.players("player", 30, world);
+
+        for (ServerDrainer.Batch batch : ServerDrainer.planBatches(players, player -> null, 6)) {
+            for (Player player : batch.players()) {
+                assertTrue(drainer.transfer(player, "lobby", FALLBACK_KICK));
+            }
+        }
+
+        List<LocalProxyTransport.Transfer> transfers = proxy.getTransfers();
+        assertEquals(players.size(), transfers.size());
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(new LocalProxyTransport.Transfer(players.get(i).getUniqueId(), "lobby"), transfers.get(i));
+            assertTrue(TestPlayers.inbox(players.get(i)).isEmpty(), "transferred player was kicked");
+        }
+        assertEquals(30, drainer.getTransferred());
+        assertEquals(0, drainer.getFailedTransfers());
+    }
+
+    @Test
+    void playersAreKickedWhenTheTransportFails() {
+        LocalProxyTransport proxy = new LocalProxyTransport();
+        ServerDrainer drainer = new ServerDrainer(null, logger, proxy);
+        List<Player> players = TestPlayers.players("player", 4, world);
+
+        assertTrue(drainer.transfer(players.get(0), "lobby", FALLBACK_KICK));
+        proxy.setReachable(false);
+        for (Player player : players.subList(1, players.size())) {
+            assertFalse(drainer.transfer(player, "lobby", FALLBACK_KICK));
+        }
+
+        assertEquals(1, proxy.getTransfers().size());
+        assertTrue(TestPlayers.inbox(players.get(0)).isEmpty());
+        for (Player player : players.subList(1, players.size())) {
+            assertEquals(List.of(FALLBACK_KICK), TestPlayers.inbox(player));
+        }
+        assertEquals(1, drainer.getTransferred());
+        assertEquals(3, drainer.getFailedTransfers());
+    }
+}
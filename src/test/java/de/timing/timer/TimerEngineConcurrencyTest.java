@@ -0,0 +1,183 @@
+package de.timing.timer;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a TimerEngine's tick() from one thread while others start, stop and
+ * read the same timer, and checks that no transition is lost, applied twice or
+ * overwritten by a stale expiry.
+ */
+class TimerEngineConcurrencyTest {
+
+    private static final String TIMER = "test";
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 5_000;
+
+    private final AtomicInteger tasksStarted = new AtomicInteger();
+    private final AtomicInteger tasksCancelled = new AtomicInteger();
+    private final AtomicInteger ends = new AtomicInteger();
+
+    @Test
+    void tickRacingStartsStopsAndReadersLosesNothing() throws Exception {
+        TimerEngine engine = engine();
+        AtomicInteger starts = new AtomicInteger();
+        AtomicInteger stops = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger finished = new AtomicInteger();
+
+        // Thread 0 is the tick task, 1-3 are readers, the rest start and stop
+        runConcurrently(thread -> {
+            if (thread == 0) {
+                while (!done.get()) {
+                    engine.tick();
+                }
+            } else if (thread <= 3) {
+                long lastRevision = -1;
+                while (!done.get()) {
+                    TimerState state = engine.getState(TIMER);
+                    int remaining = engine.getRemainingSeconds(TIMER);
+                    assertTrue(state.revision() >= lastRevision, "revision went backwards");
+                    assertTrue(remaining >= 0 && remaining <= 60, "remaining out of range: " + remaining);
+                    if (!state.isRunning()) {
+                        assertEquals(0, state.getRemainingSeconds());
+                    }
+                    lastRevision = state.revision();
+                }
+            } else {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    if (random.nextBoolean()) {
+                        // Zero-second runs are already due, so the tick races to expire them
+                        engine.start(TIMER, random.nextBoolean() ? 0 : 60);
+                        starts.incrementAndGet();
+                    } else if (engine.stop(TIMER)) {
+                        stops.incrementAndGet();
+                    }
+                    // Leave the tick some room to win races, not just lose them
+                    for (int spin = random.nextInt(500); spin > 0; spin--) {
+                        Thread.onSpinWait();
+                    }
+                }
+                if (finished.incrementAndGet() == THREADS - 4) {
+                    done.set(true);
+                }
+            }
+        });
+
+        // Every successful start, stop and expiry bumped the revision exactly once
+        assertEquals(starts.get() + stops.get() + ends.get(), engine.getState(TIMER).revision());
+
+        engine.stop(TIMER);
+        engine.tick();
+        assertEquals(tasksStarted.get(), tasksCancelled.get(), "tick task left running with nothing queued");
+    }
+
+    @Test
+    void onlyOneConcurrentStopWins() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            TimerEngine engine = engine();
+            engine.start(TIMER, 60);
+            long running = engine.getState(TIMER).revision();
+            AtomicInteger winners = new AtomicInteger();
+
+            runConcurrently(thread -> {
+                if (engine.stop(TIMER)) {
+                    winners.incrementAndGet();
+                }
+            });
+
+            assertEquals(1, winners.get());
+            assertFalse(engine.isRunning(TIMER));
+            assertEquals(running + 1, engine.getState(TIMER).revision());
+        }
+        assertEquals(0, ends.get());
+    }
+
+    @Test
+    void staleExpiryCannotOverwriteRestart() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            TimerEngine engine = engine();
+            engine.start(TIMER, 0);
+            int endsBefore = ends.get();
+            AtomicInteger restarted = new AtomicInteger();
+
+            // Thread 0 ticks while the due deadline is still queued, the rest restart the timer
+            runConcurrently(thread -> {
+                if (thread == 0) {
+                    engine.tick();
+                } else {
+                    engine.start(TIMER, 60);
+                    restarted.incrementAndGet();
+                }
+            });
+            engine.tick();
+
+            // An expiry can only win before the first restart, so the last restart always survives
+            int expired = ends.get() - endsBefore;
+            assertTrue(expired <= 1);
+            assertEquals(1 + restarted.get() + expired, engine.getState(TIMER).revision());
+            assertTrue(engine.isRunning(TIMER));
+        }
+    }
+
+    private TimerEngine engine() {
+        TimerEngine engine = new TimerEngine(Logger.getLogger(TimerEngineConcurrencyTest.class.getName()), tick -> {
+            tasksStarted.incrementAndGet();
+            return (ScheduledTask) Proxy.newProxyInstance(ScheduledTask.class.getClassLoader(),
+                    new Class<?>[]{ScheduledTask.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("cancel")) {
+                            tasksCancelled.incrementAndGet();
+                        }
+                        return null;
+                    });
+        });
+        engine.register(new TimerDefinition(TIMER, seconds -> false, null, null,
+                (definition, remaining) -> ends.incrementAndGet()));
+        return engine;
+    }
+
+    private static void runConcurrently(ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch go = new CountDownLatch(1);
+            List<Callable<Void>> tasks = IntStream.range(0, THREADS)
+                    .<Callable<Void>>mapToObj(thread -> () -> {
+                        go.await();
+                        body.run(thread);
+                        return null;
+                    })
+                    .toList();
+            List<Future<Void>> futures = tasks.stream().map(executor::submit).toList();
+            go.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,61 @@
+package de.timing.util;
+
+import de.timing.Benchmark;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-render cost of a compiled MessageTemplate compared with the previous
+ * replace-and-parse path (MessageUtil.parseWithTime), using the default
+ * countdown and MOTD formats from config.yml.
+ */
+@Tag(Benchmark.TAG)
+class MessageTemplateBenchmarkTest {
+
+    private static final int OPERATIONS = 2_000;
+
+    private static final String COUNTDOWN = "<gray>[<gradient:gold:yellow>Timing</gradient>]</gray> "
+            + "<yellow>Server starting in <white>{time}</white></yellow>";
+    private static final String MOTD = "<red><bold>Server Starting</bold></red>\n"
+            + "<yellow>Starting in: <white>{time}</white></yellow>";
+
+    @Test
+    void countdownRenderIsCheaperThanReparse() {
+        compare("countdown-message", COUNTDOWN);
+    }
+
+    @Test
+    void motdRenderIsCheaperThanReparse() {
+        compare("motd-format", MOTD);
+    }
+
+    private static void compare(String name, String format) {
+        MessageTemplate template = MessageUtil.compile(format);
+        assertTrue(template.isInline(), name + " should render without re-parsing");
+
+        int[] seconds = {0};
+        for (int i = 0; i < 100; i++) {
+            assertEquals(plain(MessageUtil.parseWithTime(format, 3600 - i)), plain(template.renderWithTime(3600 - i)));
+        }
+
+        double reparse = Benchmark.nanosPerOp(OPERATIONS, () -> MessageUtil.parseWithTime(format, next(seconds)));
+        double render = Benchmark.nanosPerOp(OPERATIONS, () -> template.renderWithTime(next(seconds)));
+        Benchmark.report(name + " render", "ns/op", reparse, render);
+
+        assertTrue(render < reparse, "template render (" + render + " ns) should beat re-parse (" + reparse + " ns)");
+    }
+
+    private static int next(int[] seconds) {
+        seconds[0] = (seconds[0] + 1) % 3600;
+        return seconds[0];
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}
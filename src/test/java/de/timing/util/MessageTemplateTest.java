@@ -0,0 +1,49 @@
+package de.timing.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Values must stay literal text on both the inline path and the re-parse
+ * fallback used for slots inside a gradient.
+ */
+class MessageTemplateTest {
+
+    private static final String INJECTED = "<red>Steve</red>";
+
+    @Test
+    void inlineSlotsInsertValuesAsText() {
+        MessageTemplate template = MessageUtil.compile("<yellow>Welcome <white>{player}</white></yellow>");
+        assertTrue(template.isInline());
+
+        assertEquals("Welcome " + INJECTED, plain(template.render(Map.of(MessageTemplate.Slot.PLAYER, INJECTED))));
+    }
+
+    @Test
+    void gradientSlotsInsertValuesAsText() {
+        MessageTemplate template = MessageUtil.compile("<gradient:gold:yellow>Welcome {player}</gradient>");
+        assertFalse(template.isInline());
+
+        assertEquals("Welcome " + INJECTED, plain(template.render(Map.of(MessageTemplate.Slot.PLAYER, INJECTED))));
+    }
+
+    @Test
+    void boundGradientSlotsStayLiteral() {
+        MessageTemplate template = MessageUtil.compile("<gradient:gold:yellow>{player} in {world}</gradient>")
+                .bind(Map.of(MessageTemplate.Slot.WORLD, "<bold>world</bold>"));
+
+        assertEquals(INJECTED + " in <bold>world</bold>",
+                plain(template.render(Map.of(MessageTemplate.Slot.PLAYER, INJECTED))));
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+}